@@ -26,5 +26,6 @@ public class Properties {
         }
 
         public static final String CACHE_VISITS = "visits";
+        public static final String CACHE_SERVICES_TO_VOCABULARY = "servicesToVocabulary";
     }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.events;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published when an onboarding workflow, started in the background after its resource was added, completes
+ * successfully. The resource is the onboarded one, as stored by the workflow, so listeners can run the steps
+ * that follow an addition once its outcome is known.
+ */
+public class OnboardingCompletedEvent extends ApplicationEvent {
+
+    private final String resourceType;
+    private final Bundle resource;
+
+    public OnboardingCompletedEvent(Object source, String resourceType, Bundle resource) {
+        super(source);
+        this.resourceType = resourceType;
+        this.resource = resource;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public Bundle getResource() {
+        return resource;
+    }
+}
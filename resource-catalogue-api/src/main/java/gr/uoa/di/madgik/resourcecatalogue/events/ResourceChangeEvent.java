@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.events;
+
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * Published after a resource of any type has been created, updated or deleted in the registry.
+ * <p>
+ * For {@link Action#DELETE} events only the id of the removed resource is available.
+ */
+public class ResourceChangeEvent extends ApplicationEvent {
+
+    public enum Action {
+        CREATE,
+        UPDATE,
+        DELETE
+    }
+
+    private final String resourceType;
+    private final Action action;
+    private final String resourceId;
+    private final Object resource;
+
+    public ResourceChangeEvent(Object source, String resourceType, Action action, String resourceId, Object resource) {
+        super(source);
+        this.resourceType = resourceType;
+        this.action = action;
+        this.resourceId = resourceId;
+        this.resource = resource;
+    }
+
+    public String getResourceType() {
+        return resourceType;
+    }
+
+    public Action getAction() {
+        return action;
+    }
+
+    public String getResourceId() {
+        return resourceId;
+    }
+
+    public Object getResource() {
+        return resource;
+    }
+
+    public boolean isOfType(String type) {
+        return type != null && type.equals(resourceType);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.service;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface AuditSampler {
+
+    /**
+     * Picks, in random order, up to {@code quantity} approved, non-public and non-draft resources of the given
+     * type that have never been audited or were last audited before {@code auditedBefore}.
+     *
+     * @param resourceType  the resource type
+     * @param quantity      the maximum number of resources to pick
+     * @param auditedBefore the audit date before which a resource is due for auditing
+     * @return the ids of the picked resources
+     */
+    List<String> sample(String resourceType, int quantity, Instant auditedBefore);
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.service;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.exception.ResourceException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Pages through the results of a filter in the order of their {@code resource_internal_id}, continuing from an
+ * opaque cursor instead of an offset, so that deep pages cost the same as the first one.
+ */
+public interface KeysetPager {
+
+    /**
+     * Returns the ids of one page of results.
+     *
+     * @param ff     the filter; its resource type, filters, keyword and quantity are used, while its offset and
+     *               ordering are ignored. A filter value may be a single value, a collection of values of which
+     *               any matches, or a {@link Range}
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @return the ids of the page and the cursor of the next one
+     */
+    Page<String> page(FacetFilter ff, String cursor);
+
+    /**
+     * One page of results.
+     *
+     * @param results the results of the page
+     * @param next    the cursor of the next page, or null if this is the last one
+     */
+    record Page<T>(List<T> results, String next) {
+
+        public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
+            return new Page<>(results.stream().<R>map(mapper).toList(), next);
+        }
+    }
+
+    /**
+     * A filter value matching the values from {@code from} (inclusive) up to {@code to} (exclusive).
+     * Implementations that cannot filter by range ignore it, so callers must still check the values they get.
+     *
+     * @param from the lower bound, or null for none
+     * @param to   the upper bound, or null for none
+     */
+    record Range(Object from, Object to) {
+    }
+
+    static String encodeCursor(String position) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the position encoded in the cursor, or null for a missing cursor
+     */
+    static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new ResourceException("Invalid cursor: " + cursor, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
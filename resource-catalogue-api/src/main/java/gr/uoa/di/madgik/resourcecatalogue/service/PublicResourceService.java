@@ -41,6 +41,15 @@ public interface PublicResourceService<T> extends ResourceCRUDService<T, Authent
      */
     Paging<T> getAll(FacetFilter ff);
 
+    /**
+     * Return a page of Public resources following the given cursor.
+     *
+     * @param ff     FacetFilter
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @return {@link KeysetPager.Page<T>}
+     */
+    KeysetPager.Page<T> getAll(FacetFilter ff, String cursor);
+
     /**
      * Return a Paging of Highlighted Service results.
      *
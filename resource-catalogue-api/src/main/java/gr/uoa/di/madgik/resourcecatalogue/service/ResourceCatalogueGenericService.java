@@ -71,6 +71,17 @@ public interface ResourceCatalogueGenericService<T extends Bundle>
      */
     Paging<T> getMyResources(FacetFilter filter, Authentication auth);
 
+    /**
+     * Get a page of resources following the given cursor, applying the same visibility rules as
+     * {@code getAll(ff, auth)}.
+     *
+     * @param ff     FacetFilter
+     * @param cursor the cursor of the previous page, or null for the first page
+     * @param auth   Authentication
+     * @return {@link KeysetPager.Page<T>}
+     */
+    KeysetPager.Page<T> getAll(FacetFilter ff, String cursor, Authentication auth);
+
     /**
      *
      * @param status      Status
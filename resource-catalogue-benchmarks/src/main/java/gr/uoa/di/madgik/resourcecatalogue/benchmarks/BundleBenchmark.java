@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package gr.uoa.di.madgik.resourcecatalogue.benchmarks;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bundle audit state resolution and public map conversion. {@code determineAuditState} is private and is
+ * invoked through a method handle, so that it is measured without the logging entry {@code markUpdate} adds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BundleBenchmark {
+
+    @Param({"m-b-service", "m-b-organisation"})
+    public String model;
+
+    @Param({"10", "100"})
+    public int loggingInfoSize;
+
+    private Bundle bundle;
+    private MethodHandle determineAuditState;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        bundle = Fixtures.bundle(model);
+        bundle.setLoggingInfo(Fixtures.loggingInfo(loggingInfoSize));
+        determineAuditState = MethodHandles.privateLookupIn(Bundle.class, MethodHandles.lookup())
+                .findVirtual(Bundle.class, "determineAuditState", MethodType.methodType(void.class));
+    }
+
+    @Benchmark
+    public String determineAuditState() throws Throwable {
+        determineAuditState.invokeExact(bundle);
+        return bundle.getAuditState();
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, Object> toPublicMap() {
+        return bundle.toPublicMap();
+    }
+}
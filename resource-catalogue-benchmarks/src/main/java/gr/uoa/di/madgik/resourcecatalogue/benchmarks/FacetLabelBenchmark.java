@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package gr.uoa.di.madgik.resourcecatalogue.benchmarks;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import gr.uoa.di.madgik.registry.domain.Facet;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Vocabulary;
+import gr.uoa.di.madgik.resourcecatalogue.utils.ElasticFacetLabelService;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Facet label generation over one facet per vocabulary type, with the label index preloaded from the
+ * bundled vocabularies instead of Elasticsearch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FacetLabelBenchmark {
+
+    private ElasticFacetLabelService labelService;
+    private List<Facet> facets;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        Constructor<ElasticFacetLabelService> constructor =
+                ElasticFacetLabelService.class.getDeclaredConstructor(ElasticsearchClient.class, ObjectMapper.class);
+        constructor.setAccessible(true);
+        labelService = constructor.newInstance(null, Fixtures.MAPPER);
+
+        Map<String, String> labels = new ConcurrentHashMap<>();
+        for (Vocabulary vocabulary : Fixtures.vocabularies()) {
+            labels.put(vocabulary.getId(), vocabulary.getName());
+        }
+        Field field = ElasticFacetLabelService.class.getDeclaredField("labels");
+        field.setAccessible(true);
+        field.set(labelService, labels);
+
+        facets = Fixtures.facets();
+    }
+
+    @Benchmark
+    public List<Facet> generateLabels() {
+        return labelService.generateLabels(facets);
+    }
+}
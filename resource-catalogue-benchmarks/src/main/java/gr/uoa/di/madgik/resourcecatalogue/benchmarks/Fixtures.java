@@ -0,0 +1,249 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.benchmarks;
+
+import gr.uoa.di.madgik.registry.domain.Facet;
+import gr.uoa.di.madgik.registry.domain.Value;
+import gr.uoa.di.madgik.resourcecatalogue.domain.*;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.cfg.DateTimeFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Benchmark fixtures built from the bundled {@code models/m-b-*.json} and {@code vocabularies/*.json}.
+ * Payloads contain a value for every field of the model, using real vocabulary ids where the field is
+ * backed by a vocabulary, so they have the shape and size of the resources stored by the catalogue.
+ */
+final class Fixtures {
+
+    static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(DateTimeFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private static final String VOCABULARY_TYPES_URL = "/vocabulary/types/";
+    private static final int MULTIPLICITY = 3;
+
+    private static List<Vocabulary> vocabularies;
+
+    private Fixtures() {
+    }
+
+    static synchronized List<Vocabulary> vocabularies() {
+        if (vocabularies == null) {
+            List<Vocabulary> loaded = new ArrayList<>();
+            try {
+                Resource[] resources = new PathMatchingResourcePatternResolver()
+                        .getResources("classpath*:vocabularies/*.json");
+                for (Resource resource : resources) {
+                    try (InputStream in = resource.getInputStream()) {
+                        loaded.addAll(Arrays.asList(MAPPER.readValue(in, Vocabulary[].class)));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            vocabularies = List.copyOf(loaded);
+        }
+        return vocabularies;
+    }
+
+    static Map<String, List<Vocabulary>> vocabulariesByType() {
+        Map<String, List<Vocabulary>> byType = new HashMap<>();
+        for (Vocabulary vocabulary : vocabularies()) {
+            byType.computeIfAbsent(vocabulary.getType(), k -> new ArrayList<>()).add(vocabulary);
+        }
+        return byType;
+    }
+
+    /**
+     * @param model the model id, e.g. {@code m-b-service}
+     * @return an approved and active bundle whose payload follows the given model
+     */
+    static Bundle bundle(String model) {
+        Map<String, Object> definition = readModel(model);
+        Bundle bundle = newBundle((String) definition.get("resourceType"));
+        LinkedHashMap<String, Object> payload = new LinkedHashMap<>();
+        Map<String, List<Vocabulary>> byType = vocabulariesByType();
+        for (Map<String, Object> field : fields(definition)) {
+            payload.put((String) field.get("name"), value(field, byType));
+        }
+        payload.put("id", "21.T15999/" + model);
+        bundle.setPayload(payload);
+        bundle.setMetadata(Metadata.createMetadata("Benchmark User", "benchmark@example.org"));
+        bundle.setStatus("approved");
+        bundle.setActive(true);
+        bundle.setCatalogueId("eosc");
+        bundle.setLoggingInfo(loggingInfo(10));
+        return bundle;
+    }
+
+    /**
+     * Alternating update and audit entries, oldest first, the way they accumulate on a long-lived resource.
+     */
+    static List<LoggingInfo> loggingInfo(int size) {
+        List<LoggingInfo> loggingInfo = new ArrayList<>(size);
+        long date = 1700000000000L;
+        for (int i = 0; i < size; i++) {
+            LoggingInfo info = new LoggingInfo();
+            info.setDate(String.valueOf(date + i * 60000L));
+            info.setUserEmail("benchmark@example.org");
+            info.setUserFullName("Benchmark User");
+            if (i % 3 == 2) {
+                info.setType(LoggingInfo.Types.AUDIT.getKey());
+                info.setActionType(i % 2 == 0 ? LoggingInfo.ActionType.VALID.getKey()
+                        : LoggingInfo.ActionType.INVALID.getKey());
+            } else {
+                info.setType(LoggingInfo.Types.UPDATE.getKey());
+                info.setActionType(LoggingInfo.ActionType.UPDATED.getKey());
+            }
+            loggingInfo.add(info);
+        }
+        return loggingInfo;
+    }
+
+    /**
+     * One facet per vocabulary type, with every vocabulary id of the type as a value.
+     */
+    static List<Facet> facets() {
+        List<Facet> facets = new ArrayList<>();
+        vocabulariesByType().forEach((type, vocabularies) -> {
+            Facet facet = new Facet();
+            facet.setField(type);
+            facet.setLabel(type);
+            List<Value> values = new ArrayList<>(vocabularies.size());
+            for (Vocabulary vocabulary : vocabularies) {
+                Value value = new Value();
+                value.setValue(vocabulary.getId());
+                values.add(value);
+            }
+            facet.setValues(values);
+            facets.add(facet);
+        });
+        return facets;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readModel(String model) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/models/" + model + ".json")) {
+            if (in == null) {
+                throw new IllegalArgumentException("Model not found: " + model);
+            }
+            return MAPPER.readValue(in, Map.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> fields(Map<String, Object> definition) {
+        List<Map<String, Object>> fields = new ArrayList<>();
+        Deque<Map<String, Object>> sections = new ArrayDeque<>();
+        for (Object section : (List<Object>) definition.getOrDefault("sections", List.of())) {
+            sections.add((Map<String, Object>) section);
+        }
+        while (!sections.isEmpty()) {
+            Map<String, Object> section = sections.poll();
+            if (section.get("fields") instanceof List<?> sectionFields) {
+                sectionFields.forEach(field -> fields.add((Map<String, Object>) field));
+            }
+            if (section.get("subSections") instanceof List<?> subSections) {
+                subSections.forEach(subSection -> sections.add((Map<String, Object>) subSection));
+            }
+        }
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object value(Map<String, Object> field, Map<String, List<Vocabulary>> byType) {
+        Map<String, Object> typeInfo = (Map<String, Object>) field.getOrDefault("typeInfo", Map.of());
+        if (!Boolean.TRUE.equals(typeInfo.get("multiplicity"))) {
+            return singleValue(field, typeInfo, byType, 0);
+        }
+        List<Object> values = new ArrayList<>(MULTIPLICITY);
+        for (int i = 0; i < MULTIPLICITY; i++) {
+            values.add(singleValue(field, typeInfo, byType, i));
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object singleValue(Map<String, Object> field, Map<String, Object> typeInfo,
+                                      Map<String, List<Vocabulary>> byType, int index) {
+        String name = (String) field.get("name");
+        String type = String.valueOf(typeInfo.get("type"));
+        return switch (type) {
+            case "composite" -> {
+                LinkedHashMap<String, Object> composite = new LinkedHashMap<>();
+                if (field.get("subFields") instanceof List<?> subFields) {
+                    for (Object subField : subFields) {
+                        Map<String, Object> sub = (Map<String, Object>) subField;
+                        composite.put((String) sub.get("name"), value(sub, byType));
+                    }
+                }
+                yield composite;
+            }
+            case "vocabulary" -> vocabularyValue(name, typeInfo, byType, index);
+            case "url" -> "https://example.org/" + name + "/" + index;
+            case "email" -> name + index + "@example.org";
+            case "date" -> String.valueOf(1700000000000L + index);
+            case "boolean" -> index % 2 == 0;
+            case "number" -> index;
+            default -> "Sample " + name + " " + index;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String vocabularyValue(String name, Map<String, Object> typeInfo,
+                                          Map<String, List<Vocabulary>> byType, int index) {
+        if (typeInfo.get("properties") instanceof Map<?, ?> properties
+                && properties.get("url") instanceof String url
+                && url.contains(VOCABULARY_TYPES_URL)) {
+            String vocabularyType = URLDecoder.decode(
+                    url.substring(url.indexOf(VOCABULARY_TYPES_URL) + VOCABULARY_TYPES_URL.length()),
+                    StandardCharsets.UTF_8);
+            List<Vocabulary> vocabularies = byType.get(vocabularyType);
+            if (vocabularies != null && !vocabularies.isEmpty()) {
+                return vocabularies.get(index % vocabularies.size()).getId();
+            }
+        }
+        return "21.T15999/" + name + "-" + index;
+    }
+
+    private static Bundle newBundle(String resourceType) {
+        return switch (resourceType) {
+            case "service" -> new ServiceBundle();
+            case "datasource" -> new DatasourceBundle();
+            case "training_resource" -> new TrainingResourceBundle();
+            case "organisation" -> new OrganisationBundle();
+            case "adapter" -> new AdapterBundle();
+            case "deployable_application" -> new DeployableApplicationBundle();
+            case "catalogue" -> new CatalogueBundle();
+            case "interoperability_record" -> new InteroperabilityRecordBundle();
+            default -> new Bundle();
+        };
+    }
+}
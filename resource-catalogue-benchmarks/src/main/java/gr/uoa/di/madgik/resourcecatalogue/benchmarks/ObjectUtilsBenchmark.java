@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package gr.uoa.di.madgik.resourcecatalogue.benchmarks;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.utils.ObjectUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ObjectUtils#clone(Object)} and {@link ObjectUtils#merge(Object, Object)} on bundles of every
+ * bundled model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ObjectUtilsBenchmark {
+
+    @Param({"m-b-service", "m-b-datasource", "m-b-training", "m-b-organisation", "m-b-adapter"})
+    public String model;
+
+    private Bundle bundle;
+    private Bundle existing;
+    private Bundle update;
+
+    @Setup
+    public void setup() {
+        bundle = Fixtures.bundle(model);
+        existing = Fixtures.bundle(model);
+        update = Fixtures.bundle(model);
+        update.setStatus("pending");
+    }
+
+    @Benchmark
+    public Bundle cloneBundle() {
+        return ObjectUtils.clone(bundle);
+    }
+
+    @Benchmark
+    public Object mergeBundle() {
+        return ObjectUtils.merge(existing, update);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package gr.uoa.di.madgik.resourcecatalogue.benchmarks;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.onboarding.flowable.WorkflowVariableMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversions between bundles and Flowable process variables.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkflowVariableMapperBenchmark {
+
+    @Param({"m-b-service", "m-b-organisation"})
+    public String model;
+
+    private WorkflowVariableMapper mapper;
+    private Bundle bundle;
+    private Map<String, Object> vars;
+
+    @Setup
+    public void setup() {
+        mapper = new WorkflowVariableMapper(Fixtures.MAPPER);
+        bundle = Fixtures.bundle(model);
+        vars = new HashMap<>();
+        mapper.putResourceBundle(vars, bundle);
+    }
+
+    @Benchmark
+    public Map<String, Object> toMap() {
+        return mapper.toMap(bundle);
+    }
+
+    @Benchmark
+    public Map<String, Object> putResourceBundle() {
+        Map<String, Object> variables = new HashMap<>();
+        mapper.putResourceBundle(variables, bundle);
+        return variables;
+    }
+
+    @Benchmark
+    public Bundle getResourceBundle() {
+        return mapper.getResourceBundle(vars);
+    }
+}
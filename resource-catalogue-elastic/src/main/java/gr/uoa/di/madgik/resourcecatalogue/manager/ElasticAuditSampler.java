@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.query_dsl.FieldAndFormat;
+import co.elastic.clients.elasticsearch._types.query_dsl.FunctionBoostMode;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonData;
+import gr.uoa.di.madgik.registry.service.ServiceException;
+import gr.uoa.di.madgik.resourcecatalogue.service.AuditSampler;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Samples in the search index with a {@code random_score} query, so that only the picked ids are transferred.
+ */
+@Component
+@Primary
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ElasticAuditSampler implements AuditSampler {
+
+    private final ElasticsearchClient client;
+
+    ElasticAuditSampler(ElasticsearchClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public List<String> sample(String resourceType, int quantity, Instant auditedBefore) {
+        if (quantity <= 0) {
+            return List.of();
+        }
+        try {
+            List<Hit<Void>> hits = client.search(s -> s
+                                    .index(resourceType)
+                                    .size(quantity)
+                                    .source(src -> src.fetch(false))
+                                    .fields(FieldAndFormat.of(f -> f.field("resource_internal_id")))
+                                    .query(q -> q.functionScore(fs -> fs
+                                            .query(getDueForAuditQuery(auditedBefore))
+                                            .functions(fn -> fn.randomScore(r -> r))
+                                            .boostMode(FunctionBoostMode.Replace))),
+                            Void.class)
+                    .hits()
+                    .hits();
+
+            List<String> ids = new ArrayList<>(hits.size());
+            for (Hit<Void> hit : hits) {
+                JsonData field = hit.fields().get("resource_internal_id");
+                if (field != null) {
+                    List<?> values = field.to(List.class);
+                    if (!values.isEmpty() && values.getFirst() != null) {
+                        ids.add(values.getFirst().toString());
+                    }
+                }
+            }
+            return ids;
+        } catch (IOException e) {
+            throw new ServiceException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 'latestAuditDate' is indexed as a string holding epoch milliseconds. These have the same number of digits
+     * for any date between 2001 and 2286, so comparing them as strings gives the chronological order.
+     */
+    private Query getDueForAuditQuery(Instant auditedBefore) {
+        return Query.of(q -> q.bool(b -> b
+                .filter(
+                        Query.of(f -> f.term(t -> t.field("status").value("approved"))),
+                        Query.of(f -> f.term(t -> t.field("published").value(false))),
+                        Query.of(f -> f.term(t -> t.field("draft").value(false))))
+                .should(
+                        Query.of(sh -> sh.bool(nb -> nb.mustNot(
+                                Query.of(m -> m.exists(e -> e.field("latestAuditDate")))))),
+                        Query.of(sh -> sh.range(r -> r.untyped(n -> n
+                                .field("latestAuditDate")
+                                .lt(JsonData.of(String.valueOf(auditedBefore.toEpochMilli())))))))
+                .minimumShouldMatch("1")));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch.core.search.Hit;
+import co.elastic.clients.json.JsonData;
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.service.ServiceException;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pages with {@code search_after} on {@code resource_internal_id}, which is unique per index, so every page is
+ * a bounded query regardless of its depth and is not limited by the result window of the index.
+ */
+@Component
+@Primary
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ElasticKeysetPager implements KeysetPager {
+
+    private static final String SORT_KEY = "resource_internal_id";
+
+    private final ElasticsearchClient client;
+
+    ElasticKeysetPager(ElasticsearchClient client) {
+        this.client = client;
+    }
+
+    @Override
+    public Page<String> page(FacetFilter ff, String cursor) {
+        if (ff.getQuantity() <= 0) {
+            return new Page<>(List.of(), null);
+        }
+        String after = KeysetPager.decodeCursor(cursor);
+        try {
+            // one extra hit tells whether there is a next page
+            List<Hit<Void>> hits = client.search(s -> {
+                                s.index(ff.getResourceType())
+                                        .size(ff.getQuantity() + 1)
+                                        .source(src -> src.fetch(false))
+                                        .trackTotalHits(t -> t.enabled(false))
+                                        .query(getQuery(ff))
+                                        .sort(so -> so.field(f -> f.field(SORT_KEY).order(SortOrder.Asc)));
+                                if (after != null) {
+                                    s.searchAfter(FieldValue.of(after));
+                                }
+                                return s;
+                            },
+                            Void.class)
+                    .hits()
+                    .hits();
+
+            List<String> ids = new ArrayList<>(Math.min(hits.size(), ff.getQuantity()));
+            for (Hit<Void> hit : hits.subList(0, Math.min(hits.size(), ff.getQuantity()))) {
+                ids.add(hit.sort().getFirst().stringValue());
+            }
+            String next = hits.size() > ff.getQuantity() ? KeysetPager.encodeCursor(ids.getLast()) : null;
+            return new Page<>(ids, next);
+        } catch (IOException e) {
+            throw new ServiceException(e.getMessage(), e);
+        }
+    }
+
+    private static Query getQuery(FacetFilter ff) {
+        List<Query> filters = new ArrayList<>();
+        ff.getFilter().forEach((field, value) -> {
+            if (value instanceof Collection<?> values) {
+                List<FieldValue> terms = values.stream().map(ElasticKeysetPager::toFieldValue).toList();
+                filters.add(Query.of(q -> q.terms(t -> t.field(field).terms(v -> v.value(terms)))));
+            } else if (value instanceof Range range) {
+                filters.add(Query.of(q -> q.range(r -> r.untyped(n -> {
+                    n.field(field);
+                    if (range.from() != null) {
+                        n.gte(JsonData.of(range.from()));
+                    }
+                    if (range.to() != null) {
+                        n.lt(JsonData.of(range.to()));
+                    }
+                    return n;
+                }))));
+            } else {
+                filters.add(Query.of(q -> q.term(t -> t.field(field).value(toFieldValue(value)))));
+            }
+        });
+        return Query.of(q -> q.bool(b -> {
+            b.filter(filters);
+            if (ff.getKeyword() != null && !ff.getKeyword().isBlank()) {
+                b.must(m -> m.simpleQueryString(sq -> sq.query(ff.getKeyword())));
+            }
+            return b;
+        }));
+    }
+
+    private static FieldValue toFieldValue(Object value) {
+        return switch (value) {
+            case Boolean b -> FieldValue.of(b);
+            case Integer i -> FieldValue.of(i.longValue());
+            case Long l -> FieldValue.of(l);
+            default -> FieldValue.of(String.valueOf(value));
+        };
+    }
+}
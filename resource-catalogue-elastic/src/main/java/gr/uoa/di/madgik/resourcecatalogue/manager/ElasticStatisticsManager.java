@@ -17,35 +17,38 @@
 package gr.uoa.di.madgik.resourcecatalogue.manager;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
 import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
 import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.aggregations.DateHistogramAggregation;
 import co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.FieldDateMath;
 import co.elastic.clients.elasticsearch._types.aggregations.LongTermsBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
 import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import co.elastic.clients.json.JsonData;
+import co.elastic.clients.util.ObjectBuilder;
 import tools.jackson.databind.ObjectMapper;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
-import gr.uoa.di.madgik.registry.domain.Paging;
-import gr.uoa.di.madgik.registry.domain.Resource;
-import gr.uoa.di.madgik.registry.service.ParserService;
-import gr.uoa.di.madgik.registry.service.SearchService;
 import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Event;
-import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
 import gr.uoa.di.madgik.resourcecatalogue.dto.MapValues;
 import gr.uoa.di.madgik.resourcecatalogue.dto.PlaceCount;
 import gr.uoa.di.madgik.resourcecatalogue.dto.Value;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
 import gr.uoa.di.madgik.resourcecatalogue.service.Analytics;
-import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
 import gr.uoa.di.madgik.resourcecatalogue.service.ServiceService;
 import gr.uoa.di.madgik.resourcecatalogue.service.StatisticsService;
-import gr.uoa.di.madgik.resourcecatalogue.service.VocabularyService;
+import gr.uoa.di.madgik.resourcecatalogue.utils.ServiceCountryIndex;
 import org.joda.time.DateTime;
-import org.postgresql.jdbc.PgArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -55,21 +58,22 @@ import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
 import java.io.IOException;
-import java.sql.SQLException;
+import java.sql.Array;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static gr.uoa.di.madgik.resourcecatalogue.config.Properties.Cache.CACHE_SERVICES_TO_VOCABULARY;
+
 @Component
 @Primary
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -77,14 +81,16 @@ import java.util.stream.Collectors;
 public class ElasticStatisticsManager implements StatisticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(ElasticStatisticsManager.class);
+    private static final Pattern COLUMN_NAME = Pattern.compile("[a-z_]+");
+
+    private static final String AGGREGATION = "aggregation";
+    private static final String PER_SERVICE = "perService";
+    private static final String VALUE = "value";
 
     private final ElasticsearchClient client;
     private final Analytics analyticsService;
-    private final OrganisationService organisationService;
-    private final SearchService searchService;
-    private final ParserService parserService;
     private final ServiceService serviceService;
-    private final VocabularyService vocabularyService;
+    private final ServiceCountryIndex serviceCountryIndex;
     private final DataSource dataSource;
     private final ObjectMapper objectMapper;
 
@@ -92,81 +98,72 @@ public class ElasticStatisticsManager implements StatisticsService {
     private int maxQuantity;
 
     ElasticStatisticsManager(ElasticsearchClient client, Analytics analyticsService,
-                             OrganisationService organisationService,
-                             SearchService searchService, ParserService parserService,
                              ServiceService serviceService,
-                             VocabularyService vocabularyService,
+                             ServiceCountryIndex serviceCountryIndex,
                              DataSource dataSource,
                              ObjectMapper objectMapper) {
         this.client = client;
         this.analyticsService = analyticsService;
-        this.organisationService = organisationService;
-        this.searchService = searchService;
-        this.parserService = parserService;
         this.serviceService = serviceService;
-        this.vocabularyService = vocabularyService;
+        this.serviceCountryIndex = serviceCountryIndex;
         this.dataSource = dataSource;
         this.objectMapper = objectMapper;
     }
 
+    private static DateHistogramAggregation.Builder dateHistogram(Interval by) {
+        CalendarInterval calendarInterval = switch (StatisticsService.Interval.fromString(by.getKey())) {
+            case DAY -> CalendarInterval.Day;
+            case WEEK -> CalendarInterval.Week;
+            case YEAR -> CalendarInterval.Year;
+            default -> CalendarInterval.Month;
+        };
+        String dateFormat = switch (calendarInterval) {
+            case Year -> "yyyy";
+            case Month -> "yyyy-MM";
+            default -> "yyyy-MM-dd";
+        };
+        return new DateHistogramAggregation.Builder()
+                .field("instant")
+                .calendarInterval(calendarInterval)
+                .format(dateFormat);
+    }
+
     private List<DateHistogramBucket> histogramBuckets(String id, String eventType, Interval by) {
-        String dateFormat;
-        String aggregationName;
-        CalendarInterval calendarInterval;
-
-        switch (StatisticsService.Interval.fromString(by.getKey())) {
-            case DAY:
-                dateFormat = "yyyy-MM-dd";
-                aggregationName = "day";
-                calendarInterval = CalendarInterval.Day;
-                break;
-            case WEEK:
-                dateFormat = "yyyy-MM-dd";
-                aggregationName = "week";
-                calendarInterval = CalendarInterval.Week;
-                break;
-            case YEAR:
-                dateFormat = "yyyy";
-                aggregationName = "year";
-                calendarInterval = CalendarInterval.Year;
-                break;
-            default:
-                dateFormat = "yyyy-MM";
-                aggregationName = "month";
-                calendarInterval = CalendarInterval.Month;
+        Aggregate aggregate = aggregate(getEventQuery(List.of(id), eventType), Aggregation.of(a -> a
+                .dateHistogram(dateHistogram(by).build())
+                .aggregations(VALUE, sub -> sub.terms(t -> t.field(VALUE)))));
+        if (aggregate == null || !aggregate.isDateHistogram()) {
+            return List.of();
         }
+        return aggregate.dateHistogram().buckets().array();
+    }
 
+    /**
+     * Runs a single aggregation over the events matching the given query, without fetching any hits.
+     */
+    private Aggregate aggregate(Query query, Aggregation aggregation) {
         try {
-            Aggregate aggregate = client.search(s -> s
+            return client.search(s -> s
                             .index("event")
                             .size(0)
-                            .query(getEventQuery(id, eventType))
-                            .aggregations(aggregationName, a -> a
-                                    .dateHistogram(dh -> dh
-                                            .field("instant")
-                                            .calendarInterval(calendarInterval)
-                                            .format(dateFormat))
-                                    .aggregations("value", sub -> sub.terms(t -> t.field("value")))),
+                            .query(query)
+                            .aggregations(AGGREGATION, aggregation),
                     Void.class)
                     .aggregations()
-                    .get(aggregationName);
-
-            if (aggregate == null || !aggregate.isDateHistogram()) {
-                return List.of();
-            }
-            return aggregate.dateHistogram().buckets().array();
+                    .get(AGGREGATION);
         } catch (IOException e) {
             throw new ServiceException(e.getMessage(), e);
         }
     }
 
-    private Query getEventQuery(String serviceId, String eventType) {
+    private Query getEventQuery(List<String> serviceIds, String eventType) {
         Instant date = Instant.now();
         java.util.Calendar c = java.util.Calendar.getInstance();
         c.setTimeInMillis(0);
 
         return Query.of(q -> q.bool(b -> b.filter(
-                Query.of(f -> f.term(t -> t.field("service").value(serviceId))),
+                Query.of(f -> f.terms(t -> t.field("service").terms(v -> v
+                        .value(serviceIds.stream().map(FieldValue::of).toList())))),
                 Query.of(f -> f.range(r -> r.untyped(n -> n
                         .field("instant")
                         .gte(JsonData.of(c.getTime().getTime()))
@@ -176,13 +173,38 @@ public class ElasticStatisticsManager implements StatisticsService {
         )));
     }
 
-    @Override
-    public Map<String, Integer> addToProject(String id, Interval by) {
+    /**
+     * @return the services owned by the given provider
+     */
+    private List<ServiceBundle> providerServices(String providerId) {
+        FacetFilter filter = new FacetFilter();
+        filter.setQuantity(maxQuantity);
+        filter.addFilter("resource_owner", providerId);
+        return serviceService.getAll(filter).getResults();
+    }
+
+    /**
+     * Aggregates the events of all the given services in one search, bucketed per service.
+     */
+    private List<StringTermsBucket> serviceBuckets(List<String> serviceIds, String eventType,
+                                                   Function<Aggregation.Builder, ObjectBuilder<Aggregation>> perService) {
+        Aggregate aggregate = aggregate(getEventQuery(serviceIds, eventType), Aggregation.of(a -> a
+                .terms(t -> t.field("service").size(serviceIds.size()))
+                .aggregations(PER_SERVICE, perService)));
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+        return aggregate.sterms().buckets().array();
+    }
+
+    /**
+     * Running count of additions minus removals per histogram bucket, never below zero.
+     */
+    private static Map<String, Integer> addToProjectCounts(List<DateHistogramBucket> buckets) {
         final long[] totalDocCounts = new long[2];
-        List<DateHistogramBucket> buckets = histogramBuckets(id, Event.UserActionType.ADD_TO_PROJECT.getKey(), by);
         Map<String, Integer> results = new LinkedHashMap<>();
         for (DateHistogramBucket bucket : buckets) {
-            Aggregate valueAggregate = bucket.aggregations().get("value");
+            Aggregate valueAggregate = bucket.aggregations().get(VALUE);
             if (valueAggregate != null && valueAggregate.isLterms()) {
                 for (LongTermsBucket subBucket : valueAggregate.lterms().buckets().array()) {
                     long key = subBucket.key();
@@ -196,19 +218,32 @@ public class ElasticStatisticsManager implements StatisticsService {
             }
             results.put(bucket.keyAsString(), (int) Math.max(totalDocCounts[1] - totalDocCounts[0], 0));
         }
-        return new TreeMap<>(results);
+        return results;
     }
 
     @Override
-    public Map<String, Integer> providerAddToProject(String id, Interval by) {
-        FacetFilter filter = new FacetFilter();
-        filter.addFilter("resource_owner", id);
-        Map<String, Integer> providerAddToProject = serviceService.getAll(filter).getResults()
-                .stream()
-                .flatMap(s -> addToProject(s.getId(), by).entrySet().stream())
-                .collect(Collectors.groupingBy(Map.Entry::getKey, Collectors.summingInt(Map.Entry::getValue)));
+    public Map<String, Integer> addToProject(String id, Interval by) {
+        return new TreeMap<>(addToProjectCounts(histogramBuckets(id, Event.UserActionType.ADD_TO_PROJECT.getKey(), by)));
+    }
 
-        return new TreeMap<>(providerAddToProject);
+    @Override
+    public Map<String, Integer> providerAddToProject(String id, Interval by) {
+        List<String> serviceIds = providerServices(id).stream().map(ServiceBundle::getId).toList();
+        Map<String, Integer> providerAddToProject = new TreeMap<>();
+        if (serviceIds.isEmpty()) {
+            return providerAddToProject;
+        }
+        // the running count is kept per service, so the histogram is nested under the service buckets
+        for (StringTermsBucket serviceBucket : serviceBuckets(serviceIds, Event.UserActionType.ADD_TO_PROJECT.getKey(),
+                a -> a.dateHistogram(dateHistogram(by).build())
+                        .aggregations(VALUE, sub -> sub.terms(t -> t.field(VALUE))))) {
+            Aggregate histogram = serviceBucket.aggregations().get(PER_SERVICE);
+            if (histogram != null && histogram.isDateHistogram()) {
+                addToProjectCounts(histogram.dateHistogram().buckets().array())
+                        .forEach((key, value) -> providerAddToProject.merge(key, value, Integer::sum));
+            }
+        }
+        return providerAddToProject;
     }
 
     @Override
@@ -217,7 +252,7 @@ public class ElasticStatisticsManager implements StatisticsService {
         Map<String, Integer> results = new LinkedHashMap<>();
         for (DateHistogramBucket bucket : buckets) {
             long totalDocCount = 0;
-            Aggregate valueAggregate = bucket.aggregations().get("value");
+            Aggregate valueAggregate = bucket.aggregations().get(VALUE);
             if (valueAggregate != null && valueAggregate.isLterms()) {
                 for (LongTermsBucket subBucket : valueAggregate.lterms().buckets().array()) {
                     long key = subBucket.key();
@@ -232,17 +267,18 @@ public class ElasticStatisticsManager implements StatisticsService {
 
     @Override
     public Map<String, Integer> providerVisits(String id, Interval by) {
-        Map<String, Integer> results = new HashMap<>();
-        FacetFilter filter = new FacetFilter();
-        filter.addFilter("resource_owner", id);
-        for (ServiceBundle service : serviceService.getAll(filter).getResults()) {
-            Set<Map.Entry<String, Integer>> entrySet = visits(service.getId(), by).entrySet();
-            for (Map.Entry<String, Integer> entry : entrySet) {
-                if (!results.containsKey(entry.getKey())) {
-                    results.put(entry.getKey(), entry.getValue());
-                } else {
-                    results.put(entry.getKey(), results.get(entry.getKey()) + entry.getValue());
-                }
+        List<String> serviceIds = providerServices(id).stream().map(ServiceBundle::getId).toList();
+        Map<String, Integer> results = new TreeMap<>();
+        if (serviceIds.isEmpty()) {
+            return results;
+        }
+        Aggregate aggregate = aggregate(getEventQuery(serviceIds, Event.UserActionType.VISIT.getKey()),
+                Aggregation.of(a -> a
+                        .dateHistogram(dateHistogram(by).build())
+                        .aggregations(VALUE, sub -> sub.sum(su -> su.field(VALUE)))));
+        if (aggregate != null && aggregate.isDateHistogram()) {
+            for (DateHistogramBucket bucket : aggregate.dateHistogram().buckets().array()) {
+                results.put(bucket.keyAsString(), (int) Math.max(sum(bucket.aggregations().get(VALUE)), 0));
             }
         }
         return results;
@@ -250,91 +286,65 @@ public class ElasticStatisticsManager implements StatisticsService {
 
     @Override
     public Map<String, Float> providerVisitation(String id, Interval by) {
-        FacetFilter filter = new FacetFilter();
-        filter.addFilter("resource_owner", id);
-        Map<String, Integer> counts = serviceService.getAll(filter).getResults().stream().collect(Collectors.toMap(s ->
+        List<ServiceBundle> services = providerServices(id);
+        if (services.isEmpty()) {
+            return new HashMap<>();
+        }
+        Map<String, Double> visitsPerService = new HashMap<>();
+        for (StringTermsBucket serviceBucket : serviceBuckets(services.stream().map(ServiceBundle::getId).toList(),
+                Event.UserActionType.VISIT.getKey(), a -> a.sum(su -> su.field(VALUE)))) {
+            visitsPerService.put(serviceBucket.key().stringValue(), sum(serviceBucket.aggregations().get(PER_SERVICE)));
+        }
+        Map<String, Integer> counts = services.stream().collect(Collectors.toMap(s ->
                         (String) s.getService().get("name"),
-                s -> visits(s.getId(), by).values().stream().mapToInt(Integer::intValue).sum()
+                s -> (int) Math.max(visitsPerService.getOrDefault(s.getId(), 0d), 0),
+                Integer::sum
         ));
         int grandTotal = counts.values().stream().mapToInt(Integer::intValue).sum();
         return counts.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, v -> ((float) v.getValue()) / grandTotal));
     }
 
+    private static double sum(Aggregate aggregate) {
+        return aggregate != null && aggregate.isSum() ? aggregate.sum().value() : 0;
+    }
+
+    @Override
     public Map<DateTime, Map<String, Long>> events(Event.UserActionType type, Instant from, Instant to, Interval by) {
+        Query query = Query.of(q -> q.bool(b -> b.filter(
+                Query.of(f -> f.term(t -> t.field("type").value(type.getKey()))),
+                Query.of(f -> f.range(r -> r.untyped(n -> n
+                        .field("instant")
+                        .gt(JsonData.of(from.toEpochMilli()))
+                        .lt(JsonData.of(to.toEpochMilli()))
+                )))
+        )));
+        // empty buckets are kept, so that the series covers the whole requested period
+        Aggregate aggregate = aggregate(query, Aggregation.of(a -> a
+                .dateHistogram(dateHistogram(by)
+                        .minDocCount(0)
+                        .extendedBounds(eb -> eb
+                                .min(FieldDateMath.of(m -> m.value((double) from.toEpochMilli())))
+                                .max(FieldDateMath.of(m -> m.value((double) to.toEpochMilli()))))
+                        .build())
+                .aggregations(PER_SERVICE, sub -> sub.terms(t -> t.field("service").size(maxQuantity)))));
+
         Map<DateTime, Map<String, Long>> results = new LinkedHashMap<>();
-        Paging<Resource> resources = searchService.cqlQuery(
-                String.format("type=\"%s\" AND creation_date > %s AND creation_date < %s",
-                        type, from.toEpochMilli(), to.toEpochMilli()), "event",
-                maxQuantity, 0, "creation_date", "ASC");
-        List<Event> events = resources
-                .getResults()
-                .stream()
-                .map(resource -> parserService.deserialize(resource, Event.class))
-                .collect(Collectors.toList());
-
-
-        DateTime start = new DateTime(from);
-        DateTime stop = new DateTime(to);
-
-        Map<DateTime, List<Event>> eventsByDate = new LinkedHashMap<>();
-
-        start.plusWeeks(1);
-        while (start.getMillis() <= stop.getMillis()) {
-            DateTime endDate = addInterval(start, by);
-            List<Event> weekEvents = new LinkedList<>();
-
-            events = events
-                    .stream()
-                    .map(event -> {
-                        if (endDate.isAfter(event.getInstant())) {
-                            weekEvents.add(event);
-                            return null;
-                        } else
-                            return event;
-                    })
-                    .filter(Objects::nonNull)
-                    .toList();
-            eventsByDate.put(start, weekEvents);
-            start = endDate;
+        if (aggregate == null || !aggregate.isDateHistogram()) {
+            return results;
         }
-
-        for (Map.Entry<DateTime, List<Event>> weekEntry : eventsByDate.entrySet()) {
-            Map<String, Long> weekResults = weekEntry.getValue()
-                    .stream()
-                    .collect(Collectors.groupingBy(Event::getService, Collectors.counting()));
-
-            weekResults = weekResults.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
-                            (oldValue, newValue) -> oldValue, LinkedHashMap::new));
-
-            results.put(weekEntry.getKey(), weekResults);
+        for (DateHistogramBucket bucket : aggregate.dateHistogram().buckets().array()) {
+            Map<String, Long> serviceEvents = new TreeMap<>();
+            Aggregate services = bucket.aggregations().get(PER_SERVICE);
+            if (services != null && services.isSterms()) {
+                for (StringTermsBucket serviceBucket : services.sterms().buckets().array()) {
+                    serviceEvents.put(serviceBucket.key().stringValue(), serviceBucket.docCount());
+                }
+            }
+            results.put(new DateTime(bucket.key()), serviceEvents);
         }
-
         return results;
     }
 
-    private DateTime addInterval(DateTime date, Interval by) {
-        DateTime duration;
-        switch (by) {
-            case DAY:
-                duration = date.plusDays(1);
-                break;
-            case WEEK:
-                duration = date.plusWeeks(1);
-                break;
-            case MONTH:
-                duration = date.plusMonths(1);
-                break;
-            case YEAR:
-                duration = date.plusYears(1);
-                break;
-            default:
-                duration = date;
-        }
-        return duration;
-    }
-
     @Override
     public List<PlaceCount> servicesPerPlace(String providerId) {
         throw new UnsupportedOperationException("Not implemented");
@@ -352,105 +362,52 @@ public class ElasticStatisticsManager implements StatisticsService {
 
     @Override
     public List<MapValues> mapServicesToProviderCountry() {
-        Map<String, Set<Value>> mapValues = new HashMap<>();
-        for (String place : vocabularyService.getRegion("WW")) {
-            mapValues.put(place, new HashSet<>());
-        }
-        mapValues.put("OT", new HashSet<>());
-        mapValues.put("EL", new HashSet<>());
-        mapValues.put("UK", new HashSet<>());
-        FacetFilter ff = new FacetFilter();
-        ff.setQuantity(maxQuantity);
-
-        Map<String, Set<String>> providerCountries = providerCountriesMap();
-
-        List<ServiceBundle> allServices = serviceService.getAll(ff, null).getResults();
-        for (ServiceBundle serviceBundle : allServices) {
-            Value value = new Value(serviceBundle.getId(), (String) serviceBundle.getService().get("name"));
-
-            Set<String> countries = new HashSet<>(providerCountries.get((String) serviceBundle.getService().get("resourceOwner")));
-            for (String country : countries) {
-                if (mapValues.get(country) == null) {
-                    continue;
-                }
-                Set<Value> values = mapValues.get(country);
-                values.add(value);
-                mapValues.put(country, values);
-            }
-        }
-
-        return toListMapValues(mapValues);
+        return serviceCountryIndex.servicesPerCountry();
     }
 
     @Override
+    @Cacheable(cacheNames = CACHE_SERVICES_TO_VOCABULARY)
     public List<MapValues> mapServicesToVocabulary(String providerId, String vocType) {
+        // the vocabulary is a column name, so it cannot be bound and is checked instead
+        if (vocType == null || !COLUMN_NAME.matcher(vocType).matches()) {
+            throw new IllegalArgumentException(String.format("Unknown vocabulary '%s'", vocType));
+        }
         Map<String, Set<Value>> vocabularyServices = new HashMap<>();
 
-        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
         MapSqlParameterSource in = new MapSqlParameterSource();
-        in.addValue("resourceOwner", providerId);
-
-        String query = "select resource_internal_id,name," + vocType +
-                " from service_view where active=true and published=false";
+        String query = "select resource_internal_id, name, " + vocType +
+                " from service_view where active = true and published = false";
         if (providerId != null) {
-            query += " and resource_owner='" + providerId + "'";
+            query += " and resource_owner = :resourceOwner";
+            in.addValue("resourceOwner", providerId);
         }
 
-        List<Map<String, Object>> records = namedParameterJdbcTemplate.queryForList(query, in);
+        new NamedParameterJdbcTemplate(dataSource).query(query, in, rs -> {
+            Value value = new Value();
+            value.setId(rs.getString("resource_internal_id"));
+            value.setName(rs.getString("name"));
 
-        try {
-            for (Map<String, Object> entry : records) {
-                Value value = new Value();
-                value.setId(entry.get("resource_internal_id").toString());
-                value.setName(entry.get("name").toString());
-
-                String[] vocabularyValues;
-                if (!vocType.equals("order_type")) {
-                    PgArray pgArray = ((PgArray) entry.get(vocType));
-                    vocabularyValues = ((String[]) pgArray.getArray());
-                } else {
-                    vocabularyValues = new String[]{((String) entry.get(vocType))};
-                }
+            String[] vocabularyValues;
+            if (!vocType.equals("order_type")) { // because order type is not multivalued
+                Array array = rs.getArray(vocType);
+                vocabularyValues = array != null ? (String[]) array.getArray() : new String[0];
+            } else {
+                vocabularyValues = new String[]{rs.getString(vocType)};
+            }
 
-                for (String voc : vocabularyValues) {
-                    Set<Value> values;
-                    if (vocabularyServices.containsKey(voc)) {
-                        values = vocabularyServices.get(voc);
-                    } else {
-                        values = new HashSet<>();
-                    }
-                    values.add(value);
-                    vocabularyServices.put(voc, values);
-                }
+            for (String voc : vocabularyValues) {
+                vocabularyServices.computeIfAbsent(voc, k -> new HashSet<>()).add(value);
             }
-        } catch (SQLException throwables) {
-            logger.error(throwables.getMessage(), throwables);
-        }
+        });
 
         return toListMapValues(vocabularyServices);
     }
 
-    private Map<String, Set<String>> providerCountriesMap() {
-        Map<String, Set<String>> providerCountries = new HashMap<>();
-        String[] world = vocabularyService.getRegion("WW");
-        String[] eu = vocabularyService.getRegion("EU");
-
-        FacetFilter ff = new FacetFilter();
-        ff.setQuantity(maxQuantity);
-
-        for (OrganisationBundle organisationBundle : organisationService.getAll(ff, null).getResults()) {
-            Set<String> countries = new HashSet<>();
-            String country = (String) organisationBundle.getOrganisation().get("country");
-            if (country.equalsIgnoreCase("WW")) {
-                countries.addAll(Arrays.asList(world));
-            } else if (country.equalsIgnoreCase("EU")) {
-                countries.addAll(Arrays.asList(eu));
-            } else {
-                countries.add(country);
-            }
-            providerCountries.put(organisationBundle.getId(), countries);
-        }
-        return providerCountries;
+    @EventListener(condition = "#root.event.isOfType('service') or #root.event.isOfType('vocabulary')")
+    @CacheEvict(cacheNames = CACHE_SERVICES_TO_VOCABULARY, allEntries = true)
+    public void onResourceChange(ResourceChangeEvent event) {
+        logger.debug("Evicting '{}' after a change of {} '{}'", CACHE_SERVICES_TO_VOCABULARY,
+                event.getResourceType(), event.getResourceId());
     }
 
     private List<MapValues> toListMapValues(Map<String, Set<Value>> mapSetValues) {
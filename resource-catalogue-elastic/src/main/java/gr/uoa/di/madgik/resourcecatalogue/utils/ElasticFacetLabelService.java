@@ -23,18 +23,24 @@ import co.elastic.clients.elasticsearch.core.SearchResponse;
 import co.elastic.clients.elasticsearch.core.search.Hit;
 import gr.uoa.di.madgik.registry.domain.Facet;
 import co.elastic.clients.json.JsonData;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Primary
 @Order(Ordered.HIGHEST_PRECEDENCE)
@@ -44,18 +50,24 @@ public class ElasticFacetLabelService implements FacetLabelService {
     private static final Logger logger = LoggerFactory.getLogger(ElasticFacetLabelService.class);
 
     private final ElasticsearchClient client;
+    private final ObjectMapper objectMapper;
 
-    ElasticFacetLabelService(ElasticsearchClient client) {
+    /**
+     * Id to label index of every entry in 'resourceTypes'. It is loaded once, kept current by
+     * {@link ResourceChangeEvent}s and periodically reloaded to pick up writes made by other instances.
+     */
+    private volatile Map<String, String> labels;
+
+    ElasticFacetLabelService(ElasticsearchClient client, ObjectMapper objectMapper) {
         this.client = client;
+        this.objectMapper = objectMapper;
     }
 
     @Override
     public List<Facet> generateLabels(List<Facet> facets) {
-        Map<String, String> vocabularyValues = null;
-        try {
-            vocabularyValues = getIdNameFields();
-        } catch (IOException e) {
-            logger.warn(e.getMessage(), e);
+        Map<String, String> vocabularyValues = labels;
+        if (vocabularyValues == null) {
+            vocabularyValues = reloadLabels();
         }
 
         for (Facet facet : facets) {
@@ -65,6 +77,84 @@ public class ElasticFacetLabelService implements FacetLabelService {
         return facets;
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${catalogue.facet-labels.refresh-rate:3600000}",
+            fixedDelayString = "${catalogue.facet-labels.refresh-rate:3600000}")
+    public void refreshLabels() {
+        reloadLabels();
+    }
+
+    @EventListener
+    public void onResourceChange(ResourceChangeEvent event) {
+        Map<String, String> current = labels;
+        if (current == null || event.getResourceId() == null) {
+            return;
+        }
+        if (event.getAction() == ResourceChangeEvent.Action.DELETE) {
+            current.remove(event.getResourceId());
+            return;
+        }
+        String label = labelOf(event.getResource());
+        if (label != null) {
+            current.put(event.getResourceId(), label);
+        } else {
+            current.remove(event.getResourceId());
+        }
+    }
+
+    private synchronized Map<String, String> reloadLabels() {
+        long time = System.nanoTime();
+        try {
+            Map<String, String> loaded = new ConcurrentHashMap<>(getIdNameFields());
+            labels = loaded;
+            logger.debug("Loaded {} facet labels in {} ms", loaded.size(), (System.nanoTime() - time) / 1000000);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not load facet labels: {}", e.getMessage(), e);
+            return labels;
+        }
+    }
+
+    /**
+     * Resolves the label of a resource the same way 'resourceTypes' does: its 'name' (or 'title'),
+     * either on the resource itself or on its wrapped payload.
+     */
+    private String labelOf(Object resource) {
+        if (resource == null) {
+            return null;
+        }
+        try {
+            Map<?, ?> fields = objectMapper.convertValue(resource, Map.class);
+            String label = nameOrTitle(fields);
+            if (label == null) {
+                for (Object value : fields.values()) {
+                    if (value instanceof Map<?, ?> nested) {
+                        label = nameOrTitle(nested);
+                        if (label != null) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return label;
+        } catch (RuntimeException e) {
+            logger.warn("Could not resolve label of resource: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String nameOrTitle(Map<?, ?> fields) {
+        Object name = fields.get("name");
+        if (name instanceof String value && !value.isBlank()) {
+            return value;
+        }
+        Object title = fields.get("title");
+        if (title instanceof String value && !value.isBlank()) {
+            return value;
+        }
+        return null;
+    }
+
     private Map<String, String> getIdNameFields() throws IOException {
         Map<String, String> idNameMap = new TreeMap<>();
         String scrollId = null;
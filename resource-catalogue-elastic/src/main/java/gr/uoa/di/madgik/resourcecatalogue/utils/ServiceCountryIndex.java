@@ -0,0 +1,294 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.utils;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
+import gr.uoa.di.madgik.resourcecatalogue.dto.MapValues;
+import gr.uoa.di.madgik.resourcecatalogue.dto.Value;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
+import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
+import gr.uoa.di.madgik.resourcecatalogue.service.ServiceService;
+import gr.uoa.di.madgik.resourcecatalogue.service.VocabularyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The approved and active services, grouped by the countries of their owners.
+ * <p>
+ * Services and organisations are loaded once, kept current by {@link ResourceChangeEvent}s and periodically
+ * reloaded to pick up writes made by other instances. The grouping itself is computed on the first read after a
+ * change, so reads in between return the same result without touching the registry.
+ * <p>
+ * Every change is applied under one lock and bumps a version. Changes received while a reload reads the
+ * registry are replayed on the reloaded state before it is published, and a grouping is only kept if no change
+ * happened while it was computed.
+ */
+@Component
+public class ServiceCountryIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ServiceCountryIndex.class);
+
+    private final OrganisationService organisationService;
+    private final ServiceService serviceService;
+    private final VocabularyService vocabularyService;
+    private final int maxQuantity;
+
+    private final Object lock = new Object();
+    private final Object reloadLock = new Object();
+    // guarded by lock
+    private State state;
+    private long version;
+    private List<ResourceChangeEvent> changesDuringReload;
+
+    private volatile Grouping servicesPerCountry;
+
+    public ServiceCountryIndex(OrganisationService organisationService,
+                               ServiceService serviceService,
+                               VocabularyService vocabularyService,
+                               @org.springframework.beans.factory.annotation.Value(
+                                       "${elastic.index.max_result_window:10000}") int maxQuantity) {
+        this.organisationService = organisationService;
+        this.serviceService = serviceService;
+        this.vocabularyService = vocabularyService;
+        this.maxQuantity = maxQuantity;
+    }
+
+    /**
+     * @param organisationCountries the country of every organisation, by organisation id
+     * @param services              the name and owner of every service, by service id
+     */
+    private record State(Map<String, String> organisationCountries, Map<String, ServiceEntry> services) {
+    }
+
+    private record ServiceEntry(String name, String owner) {
+    }
+
+    /**
+     * @param version the version of the state the grouping was computed from
+     */
+    private record Grouping(long version, List<MapValues> values) {
+    }
+
+    /**
+     * @return one entry per country holding the services owned by organisations of the country
+     */
+    public List<MapValues> servicesPerCountry() {
+        State current;
+        long currentVersion;
+        synchronized (lock) {
+            current = state;
+            currentVersion = version;
+        }
+        Grouping cached = servicesPerCountry;
+        if (current != null && cached != null && cached.version() == currentVersion) {
+            return cached.values();
+        }
+        if (current == null) {
+            synchronized (reloadLock) {
+                synchronized (lock) {
+                    current = state;
+                }
+                if (current == null) {
+                    current = reload();
+                }
+                synchronized (lock) {
+                    currentVersion = version;
+                }
+            }
+        }
+        List<MapValues> values = group(current);
+        synchronized (lock) {
+            if (state == current && version == currentVersion) {
+                servicesPerCountry = new Grouping(currentVersion, values);
+            }
+        }
+        return values;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${catalogue.statistics.service-countries.refresh-rate:3600000}",
+            fixedDelayString = "${catalogue.statistics.service-countries.refresh-rate:3600000}")
+    public void refresh() {
+        reload();
+    }
+
+    @EventListener
+    public void onResourceChange(ResourceChangeEvent event) {
+        if (event.getResourceId() == null || !(event.isOfType("service") || event.isOfType("organisation"))) {
+            return;
+        }
+        synchronized (lock) {
+            if (changesDuringReload != null) {
+                changesDuringReload.add(event);
+            }
+            if (state != null && !apply(state, event)) {
+                // unknown representation, so start over on the next read
+                state = null;
+            }
+            version++;
+        }
+    }
+
+    /**
+     * @return false if the event does not carry a representation the state can be updated from
+     */
+    private static boolean apply(State current, ResourceChangeEvent event) {
+        if (event.getAction() == ResourceChangeEvent.Action.DELETE) {
+            current.services().remove(event.getResourceId());
+            current.organisationCountries().remove(event.getResourceId());
+        } else if (event.getResource() instanceof ServiceBundle service) {
+            if (isListed(service)) {
+                current.services().put(service.getId(), entryOf(service));
+            } else {
+                current.services().remove(service.getId());
+            }
+        } else if (event.getResource() instanceof OrganisationBundle organisation) {
+            if (isListed(organisation) && countryOf(organisation) != null) {
+                current.organisationCountries().put(organisation.getId(), countryOf(organisation));
+            } else {
+                current.organisationCountries().remove(organisation.getId());
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private State reload() {
+        synchronized (reloadLock) {
+            synchronized (lock) {
+                changesDuringReload = new ArrayList<>();
+            }
+            try {
+                return load();
+            } finally {
+                synchronized (lock) {
+                    changesDuringReload = null;
+                }
+            }
+        }
+    }
+
+    private State load() {
+        long time = System.nanoTime();
+        try {
+            FacetFilter ff = new FacetFilter();
+            ff.setQuantity(maxQuantity);
+            Map<String, String> organisationCountries = new ConcurrentHashMap<>();
+            for (OrganisationBundle organisation : organisationService.getAll(ff, null).getResults()) {
+                if (countryOf(organisation) != null) {
+                    organisationCountries.put(organisation.getId(), countryOf(organisation));
+                }
+            }
+
+            ff = new FacetFilter();
+            ff.setQuantity(maxQuantity);
+            Map<String, ServiceEntry> services = new ConcurrentHashMap<>();
+            for (ServiceBundle service : serviceService.getAll(ff, null).getResults()) {
+                services.put(service.getId(), entryOf(service));
+            }
+
+            State loaded = new State(organisationCountries, services);
+            synchronized (lock) {
+                boolean replayed = true;
+                for (ResourceChangeEvent event : changesDuringReload) {
+                    replayed &= apply(loaded, event);
+                }
+                state = replayed ? loaded : null;
+                version++;
+            }
+            logger.debug("Loaded {} services of {} organisations in {} ms", services.size(),
+                    organisationCountries.size(), (System.nanoTime() - time) / 1000000);
+            return loaded;
+        } catch (RuntimeException e) {
+            State current;
+            synchronized (lock) {
+                current = state;
+            }
+            if (current == null) {
+                throw e;
+            }
+            logger.warn("Could not reload the services per country: {}", e.getMessage(), e);
+            return current;
+        }
+    }
+
+    private List<MapValues> group(State current) {
+        Map<String, Set<Value>> mapValues = new HashMap<>();
+        for (String place : vocabularyService.getRegion("WW")) {
+            mapValues.put(place, new HashSet<>());
+        }
+        mapValues.put("OT", new HashSet<>());
+        mapValues.put("EL", new HashSet<>());
+        mapValues.put("UK", new HashSet<>());
+
+        Map<String, List<String>> regions = Map.of(
+                "WW", Arrays.asList(vocabularyService.getRegion("WW")),
+                "EU", Arrays.asList(vocabularyService.getRegion("EU")));
+        for (Map.Entry<String, ServiceEntry> service : current.services().entrySet()) {
+            String country = current.organisationCountries().get(service.getValue().owner());
+            if (country == null) {
+                continue;
+            }
+            Value value = new Value(service.getKey(), service.getValue().name());
+            for (String place : regions.getOrDefault(country.toUpperCase(), List.of(country))) {
+                Set<Value> values = mapValues.get(place);
+                if (values != null) {
+                    values.add(value);
+                }
+            }
+        }
+
+        List<MapValues> mapValuesList = new ArrayList<>();
+        for (Map.Entry<String, Set<Value>> entry : mapValues.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                mapValuesList.add(new MapValues<>(entry.getKey(), new ArrayList<>(entry.getValue())));
+            }
+        }
+        return List.copyOf(mapValuesList);
+    }
+
+    private static boolean isListed(Bundle bundle) {
+        return "approved".equals(bundle.getStatus()) && bundle.isActive();
+    }
+
+    private static ServiceEntry entryOf(ServiceBundle service) {
+        return new ServiceEntry((String) service.getService().get("name"),
+                (String) service.getService().get("resourceOwner"));
+    }
+
+    private static String countryOf(OrganisationBundle organisation) {
+        return (String) organisation.getOrganisation().get("country");
+    }
+}
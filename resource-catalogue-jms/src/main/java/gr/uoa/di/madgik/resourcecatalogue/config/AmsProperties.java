@@ -6,6 +6,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
+import java.time.Duration;
+
 @Component
 @ConfigurationProperties(prefix = "catalogue.jms.ams")
 @Validated
@@ -17,6 +19,26 @@ public class AmsProperties {
     private String key;
     private String project;
 
+    /**
+     * Maximum number of messages sent to a topic with a single publish request.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum time a message waits in the buffer before it is published.
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * Maximum number of messages kept in the buffer waiting to be published.
+     */
+    private int bufferSize = 10000;
+
+    /**
+     * Time a caller waits for space in a full buffer before the message is rejected.
+     */
+    private Duration publishTimeout = Duration.ofSeconds(5);
+
     public AmsProperties() {
     }
 
@@ -66,4 +88,36 @@ public class AmsProperties {
     public void setProject(String projects) {
         this.project = projects;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public Duration getPublishTimeout() {
+        return publishTimeout;
+    }
+
+    public void setPublishTimeout(Duration publishTimeout) {
+        this.publishTimeout = publishTimeout;
+    }
 }
@@ -20,6 +20,8 @@ import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import gr.uoa.di.madgik.resourcecatalogue.config.AmsProperties;
 import gr.uoa.di.madgik.resourcecatalogue.utils.JmsPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -29,9 +31,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
-import java.util.Base64;
-import java.util.List;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Order(0)
@@ -39,28 +43,90 @@ import java.util.Map;
 public class AmsJmsService implements JmsPublisher {
 
     private static final Logger logger = LoggerFactory.getLogger(AmsJmsService.class);
+    /**
+     * Longest time the publisher waits for messages before noticing a shutdown.
+     */
+    private static final long STOP_CHECK_INTERVAL = TimeUnit.MILLISECONDS.toNanos(100);
 
     private final WebClient webClient;
     private final AmsProperties amsProperties;
     private final ObjectMapper objectMapper;
 
+    /**
+     * Messages waiting to be published, already serialized to JSON on the caller's thread.
+     */
+    private final BlockingQueue<PendingMessage> buffer;
+    private volatile boolean running = false;
+    private Thread publisher;
+
     public AmsJmsService(WebClient.Builder webClientBuilder,
                          AmsProperties amsProperties,
                          ObjectMapper objectMapper) {
         this.webClient = webClientBuilder.build();
         this.amsProperties = amsProperties;
         this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, amsProperties.getBufferSize()));
+    }
+
+    private record PendingMessage(String topic, String json) {
+    }
+
+    @PostConstruct
+    public void startPublisher() {
+        if (!amsProperties.isEnabled()) {
+            return;
+        }
+        running = true;
+        publisher = new Thread(this::publishBuffered, "ams-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    /**
+     * Stops accepting messages and waits up to the publish timeout for the buffered ones to be published.
+     * Messages still buffered after that are dropped.
+     */
+    @PreDestroy
+    public void stopPublisher() throws InterruptedException {
+        running = false;
+        if (publisher != null) {
+            publisher.join(amsProperties.getPublishTimeout().toMillis());
+        }
+        List<PendingMessage> unpublished = new ArrayList<>();
+        buffer.drainTo(unpublished);
+        if (!unpublished.isEmpty()) {
+            logger.warn("AMS publisher stopped, dropping {} unpublished message(s)", unpublished.size());
+        }
     }
 
+    /**
+     * Buffers the message for publishing. When the buffer is full the caller waits up to the configured
+     * publish timeout for space, after which the message is rejected.
+     */
     @Override
     public void convertAndSendTopic(String messageDestination, Object message) {
+        if (!amsProperties.isEnabled()) {
+            logger.warn("AMS is disabled, skipping execution.");
+            return;
+        }
+        if (!running) {
+            logger.warn("AMS publisher is stopped, dropping message for topic: {}", messageDestination.replace(".", "-"));
+            return;
+        }
+        PendingMessage pending;
         try {
-            publishTopic(messageDestination.replace(".", "-"), message);
-        } catch (WebClientResponseException e) {
-            if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
-                createTopic(messageDestination.replace(".", "-"));
+            pending = new PendingMessage(messageDestination.replace(".", "-"), objectMapper.writeValueAsString(message));
+        } catch (JacksonException e) {
+            throw new RuntimeException("Error serializing message to JSON", e);
+        }
+        try {
+            if (!buffer.offer(pending, amsProperties.getPublishTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("AMS publish buffer is full, dropping message for topic: "
+                        + pending.topic());
             }
-            throw new RuntimeException("Error sending topic", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while buffering message for topic: " + pending.topic(), e);
         }
     }
 
@@ -98,9 +164,88 @@ public class AmsJmsService implements JmsPublisher {
             logger.warn("AMS is disabled, skipping execution.");
             return;
         }
-        HttpEntity<String> request = createHttpRequestForTopic(message);
+        try {
+            publishTopicMessages(topic, List.of(objectMapper.writeValueAsString(message)));
+        } catch (JacksonException e) {
+            throw new RuntimeException("Error serializing message to JSON", e);
+        }
+    }
+
+    private void publishTopicMessages(String topic, List<String> jsonMessages) {
+        HttpEntity<String> request = createHttpRequestForTopic(jsonMessages);
         sendRequest(buildUrl("/topics/" + topic + ":publish"), HttpMethod.POST, request, false);
-        logger.info("Sending JMS to topic: {} via AMS", topic);
+        logger.info("Published {} message(s) to topic: {} via AMS", jsonMessages.size(), topic);
+    }
+    //endregion
+
+    //region Buffered publishing
+
+    /**
+     * Drains the buffer until shutdown. A batch is published once it reaches the configured batch size or
+     * when the flush interval since its first message has passed, with one request per topic. On shutdown the
+     * pending batch is published without waiting for the flush interval.
+     */
+    private void publishBuffered() {
+        int batchSize = Math.max(1, amsProperties.getBatchSize());
+        long flushInterval = amsProperties.getFlushInterval().toNanos();
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                PendingMessage first = buffer.poll(Math.min(flushInterval, STOP_CHECK_INTERVAL), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushInterval;
+                while (batch.size() < batchSize) {
+                    PendingMessage next = buffer.poll();
+                    if (next == null) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0 || !running) {
+                            break;
+                        }
+                        next = buffer.poll(Math.min(remaining, STOP_CHECK_INTERVAL), TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            continue;
+                        }
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                logger.warn("AMS publisher interrupted, dropping {} unpublished message(s)", buffer.size());
+                flush(batch);
+                Thread.currentThread().interrupt();
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        Map<String, List<String>> messagesByTopic = new LinkedHashMap<>();
+        for (PendingMessage message : batch) {
+            messagesByTopic.computeIfAbsent(message.topic(), k -> new ArrayList<>()).add(message.json());
+        }
+        messagesByTopic.forEach((topic, messages) -> {
+            try {
+                publishBatch(topic, messages);
+            } catch (RuntimeException e) {
+                logger.error("Could not publish {} message(s) to topic: {} via AMS", messages.size(), topic, e);
+            }
+        });
+    }
+
+    private void publishBatch(String topic, List<String> messages) {
+        try {
+            publishTopicMessages(topic, messages);
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
+                throw e;
+            }
+            createTopic(topic);
+            publishTopicMessages(topic, messages);
+        }
     }
     //endregion
 
@@ -159,12 +304,10 @@ public class AmsJmsService implements JmsPublisher {
         return new HttpEntity<>(headers);
     }
 
-    private HttpEntity<String> createHttpRequestForTopic(Object body) {
+    private HttpEntity<String> createHttpRequestForTopic(List<String> jsonMessages) {
         HttpHeaders headers = createHeaders();
         try {
-            String jsonMessage = objectMapper.writeValueAsString(body);
-            String base64EncodedData = Base64.getEncoder().encodeToString(jsonMessage.getBytes());
-            Map<String, Object> pubSubMessage = createMessageForTopic(base64EncodedData);
+            Map<String, Object> pubSubMessage = createMessageForTopic(jsonMessages);
             String jsonPayload = objectMapper.writeValueAsString(pubSubMessage);
             return new HttpEntity<>(jsonPayload, headers);
         } catch (JacksonException e) {
@@ -190,15 +333,15 @@ public class AmsJmsService implements JmsPublisher {
         return headers;
     }
 
-    private Map<String, Object> createMessageForTopic(String base64EncodedData) {
-        return Map.of(
-                "messages", List.of(
-                        Map.of(
-                                "attributes", Map.of("source", "Service Catalogue"),
-                                "data", base64EncodedData
-                        )
-                )
-        );
+    private Map<String, Object> createMessageForTopic(List<String> jsonMessages) {
+        List<Map<String, Object>> messages = new ArrayList<>(jsonMessages.size());
+        for (String jsonMessage : jsonMessages) {
+            messages.add(Map.of(
+                    "attributes", Map.of("source", "Service Catalogue"),
+                    "data", Base64.getEncoder().encodeToString(jsonMessage.getBytes(StandardCharsets.UTF_8))
+            ));
+        }
+        return Map.of("messages", messages);
     }
 
     private Map<String, Object> createMessageForSubscription(String topicUrl) {
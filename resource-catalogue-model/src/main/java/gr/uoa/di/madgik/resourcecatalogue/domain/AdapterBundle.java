@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class AdapterBundle extends Bundle {
 
+    public AdapterBundle() {
+    }
+
+    public AdapterBundle(AdapterBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getAdapter() {
         return this.getPayload();
     }
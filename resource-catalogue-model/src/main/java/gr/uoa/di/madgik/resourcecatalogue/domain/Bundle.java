@@ -56,6 +56,40 @@ public class Bundle {
     public Bundle() {
     }
 
+    /**
+     * Deep copy constructor. The payload is copied structurally: maps and collections are copied recursively
+     * into {@link LinkedHashMap} and {@link ArrayList} instances, while any other value (strings, numbers,
+     * booleans) is immutable and shared.
+     */
+    public Bundle(Bundle bundle) {
+        this.payload = bundle.payload != null ? copyMap(bundle.payload) : null;
+        if (bundle.metadata != null) {
+            this.metadata = new Metadata(bundle.metadata);
+            if (bundle.metadata.getTerms() != null) {
+                this.metadata.setTerms(new ArrayList<>(bundle.metadata.getTerms()));
+            }
+        }
+        this.active = bundle.active;
+        this.suspended = bundle.suspended;
+        this.draft = bundle.draft;
+        this.legacy = bundle.legacy;
+        this.identifiers = bundle.identifiers != null ? new Identifiers(bundle.identifiers) : null;
+        if (bundle.loggingInfo != null) {
+            this.loggingInfo = new ArrayList<>(bundle.loggingInfo.size());
+            for (LoggingInfo info : bundle.loggingInfo) {
+                this.loggingInfo.add(copy(info));
+            }
+        } else {
+            this.loggingInfo = null;
+        }
+        this.latestAuditInfo = copy(bundle.latestAuditInfo);
+        this.latestOnboardingInfo = copy(bundle.latestOnboardingInfo);
+        this.latestUpdateInfo = copy(bundle.latestUpdateInfo);
+        this.status = bundle.status;
+        this.auditState = bundle.auditState;
+        this.catalogueId = bundle.catalogueId;
+    }
+
     public void markOnboard(String status, boolean active, UserInfo user, String comment) {
         if (!Objects.equals(status, this.status)) { // status changed
             this.setStatus(status);
@@ -373,4 +407,37 @@ public class Bundle {
         result.put("catalogueId", catalogueId);
         return result;
     }
-}
\ No newline at end of file
+
+    /**
+     * Copies a payload structurally, the same way the copy constructor does.
+     */
+    public static LinkedHashMap<String, Object> copyPayload(Map<String, ?> payload) {
+        return payload != null ? copyMap(payload) : null;
+    }
+
+    private static LoggingInfo copy(LoggingInfo info) {
+        return info != null ? new LoggingInfo(info) : null;
+    }
+
+    private static <K> LinkedHashMap<K, Object> copyMap(Map<K, ?> map) {
+        LinkedHashMap<K, Object> copy = new LinkedHashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+        for (Map.Entry<K, ?> entry : map.entrySet()) {
+            copy.put(entry.getKey(), copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return copyMap(map);
+        }
+        if (value instanceof Collection<?> collection) {
+            List<Object> copy = new ArrayList<>(collection.size());
+            for (Object element : collection) {
+                copy.add(copyValue(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class CatalogueBundle extends Bundle {
 
+    public CatalogueBundle() {
+    }
+
+    public CatalogueBundle(CatalogueBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getCatalogue() {
         return this.getPayload();
     }
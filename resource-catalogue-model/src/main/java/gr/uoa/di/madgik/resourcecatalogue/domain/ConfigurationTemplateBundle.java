@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class ConfigurationTemplateBundle extends Bundle {
 
+    public ConfigurationTemplateBundle() {
+    }
+
+    public ConfigurationTemplateBundle(ConfigurationTemplateBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getConfigurationTemplate() {
         return this.getPayload();
     }
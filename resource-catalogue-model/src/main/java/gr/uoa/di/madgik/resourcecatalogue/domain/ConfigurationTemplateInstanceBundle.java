@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class ConfigurationTemplateInstanceBundle extends Bundle {
 
+    public ConfigurationTemplateInstanceBundle() {
+    }
+
+    public ConfigurationTemplateInstanceBundle(ConfigurationTemplateInstanceBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getConfigurationTemplateInstance() {
         return this.getPayload();
     }
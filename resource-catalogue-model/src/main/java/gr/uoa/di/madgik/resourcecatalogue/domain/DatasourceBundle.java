@@ -25,6 +25,14 @@ public class DatasourceBundle extends Bundle {
      */
     private String originalOpenAIREId;
 
+    public DatasourceBundle() {
+    }
+
+    public DatasourceBundle(DatasourceBundle bundle) {
+        super(bundle);
+        this.originalOpenAIREId = bundle.originalOpenAIREId;
+    }
+
     public LinkedHashMap<String, Object> getDatasource() {
         return this.getPayload();
     }
@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class DeployableApplicationBundle extends Bundle {
 
+    public DeployableApplicationBundle() {
+    }
+
+    public DeployableApplicationBundle(DeployableApplicationBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getDeployableApplication() {
         return this.getPayload();
     }
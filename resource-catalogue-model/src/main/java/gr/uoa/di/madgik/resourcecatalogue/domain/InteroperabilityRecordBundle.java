@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class InteroperabilityRecordBundle extends Bundle {
 
+    public InteroperabilityRecordBundle() {
+    }
+
+    public InteroperabilityRecordBundle(InteroperabilityRecordBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getInteroperabilityRecord() {
         return this.getPayload();
     }
@@ -22,6 +22,14 @@ public class OrganisationBundle extends Bundle {
 
     private String templateStatus;
 
+    public OrganisationBundle() {
+    }
+
+    public OrganisationBundle(OrganisationBundle bundle) {
+        super(bundle);
+        this.templateStatus = bundle.templateStatus;
+    }
+
     public LinkedHashMap<String, Object> getOrganisation() {
         return this.getPayload();
     }
@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class ResourceInteroperabilityRecordBundle extends Bundle {
 
+    public ResourceInteroperabilityRecordBundle() {
+    }
+
+    public ResourceInteroperabilityRecordBundle(ResourceInteroperabilityRecordBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getResourceInteroperabilityRecord() {
         return this.getPayload();
     }
@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class ServiceBundle extends Bundle {
 
+    public ServiceBundle() {
+    }
+
+    public ServiceBundle(ServiceBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getService() {
         return this.getPayload();
     }
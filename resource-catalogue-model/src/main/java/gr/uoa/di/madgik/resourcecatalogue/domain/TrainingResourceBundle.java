@@ -20,6 +20,13 @@ import java.util.LinkedHashMap;
 
 public class TrainingResourceBundle extends Bundle {
 
+    public TrainingResourceBundle() {
+    }
+
+    public TrainingResourceBundle(TrainingResourceBundle bundle) {
+        super(bundle);
+    }
+
     public LinkedHashMap<String, Object> getTrainingResource() {
         return this.getPayload();
     }
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS sync_outbox (
+    id           BIGSERIAL PRIMARY KEY,
+    controller   VARCHAR(255) NOT NULL,
+    resource_id  VARCHAR(255) NOT NULL,
+    operation    VARCHAR(32)  NOT NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    attempts     INTEGER      NOT NULL DEFAULT 0,
+    next_attempt TIMESTAMP    NOT NULL DEFAULT now(),
+    created_at   TIMESTAMP    NOT NULL DEFAULT now(),
+    CONSTRAINT sync_outbox_resource_operation_key UNIQUE (controller, resource_id, operation)
+);
+
+CREATE INDEX IF NOT EXISTS sync_outbox_next_attempt_idx ON sync_outbox (controller, next_attempt);
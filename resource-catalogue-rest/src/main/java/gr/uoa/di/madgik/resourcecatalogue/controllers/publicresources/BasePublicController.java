@@ -22,6 +22,7 @@ import gr.uoa.di.madgik.registry.domain.HighlightedResult;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.resourcecatalogue.annotations.BrowseCatalogue;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
 import gr.uoa.di.madgik.resourcecatalogue.service.PublicResourceService;
 import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
@@ -81,6 +82,22 @@ public abstract class BasePublicController<T extends Bundle> {
         return ResponseEntity.ok(service.getAll(ff).map(Bundle::toPublicMap));
     }
 
+    @Operation(description = "Get a page of Public resources in the Catalogue, based on a set of filters. " +
+            "Pages are continued with the 'next' cursor of the previous page instead of an offset, so they are " +
+            "not limited in depth.")
+    @BrowseParameters
+    @BrowseCatalogue
+    @Parameter(name = "suspended", content = @Content(schema = @Schema(type = "boolean", defaultValue = "false", nullable = true)))
+    @GetMapping(path = "all/scroll")
+    public ResponseEntity<KeysetPager.Page<LinkedHashMap<String, Object>>> scroll(
+            @Parameter(description = "The cursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, Object> params) {
+        params.remove("cursor");
+        FacetFilter ff = FacetFilter.from(params);
+        ff.addFilter("active", true);
+        return ResponseEntity.ok(service.getAll(ff, cursor).map(Bundle::toPublicMap));
+    }
+
     @Operation(description = "Get a Paging of Highlighted resource results, based on a set of filters.")
     @BrowseParameters
     @BrowseCatalogue
@@ -106,6 +123,23 @@ public abstract class BasePublicController<T extends Bundle> {
         return ResponseEntity.ok(service.getAll(ff));
     }
 
+    @Operation(description = "Get a page of resource Bundles in the Catalogue, based on a set of filters. " +
+            "Pages are continued with the 'next' cursor of the previous page instead of an offset, so they are " +
+            "not limited in depth.")
+    @BrowseParameters
+    @BrowseCatalogue
+    @Parameter(name = "suspended", content = @Content(schema = @Schema(type = "boolean", defaultValue = "false", nullable = true)))
+    @GetMapping(path = "bundle/all/scroll")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_EPOT')")
+    public ResponseEntity<KeysetPager.Page<T>> scrollBundles(
+            @Parameter(description = "The cursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(hidden = true) @RequestParam MultiValueMap<String, Object> params) {
+        params.remove("cursor");
+        FacetFilter ff = FacetFilter.from(params);
+        ff.addFilter("active", true);
+        return ResponseEntity.ok(service.getAll(ff, cursor));
+    }
+
     @Hidden
     @PostMapping(path = "add")
     @PreAuthorize("hasRole('ROLE_ADMIN')")
@@ -16,8 +16,9 @@
 
 package gr.uoa.di.madgik.resourcecatalogue.controllers.publicresources;
 
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.service.GenericResourceService;
-import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -31,7 +32,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Profile("beyond")
@@ -57,21 +62,32 @@ public class PublicController {
             resourceTypes = List.of("service", "datasource", "training_resource");
         }
 
-        List<Object> someResources = new ArrayList<>();
+        // one search per resource type for the whole id set, instead of one read per id and type
+        List<String> distinctIds = Arrays.stream(ids).distinct().toList();
+        Map<String, Map<String, Bundle>> resourcesByType = new HashMap<>();
+        for (String resourceType : resourceTypes) {
+            FacetFilter ff = new FacetFilter();
+            ff.setResourceType(resourceType);
+            ff.setQuantity(distinctIds.size());
+            ff.addFilter("resource_internal_id", distinctIds);
+            Paging<Bundle> paging = genericService.getResults(ff);
+            Map<String, Bundle> resources = new HashMap<>();
+            for (Bundle bundle : paging.getResults()) {
+                resources.putIfAbsent(bundle.getId(), bundle);
+            }
+            resourcesByType.put(resourceType, resources);
+        }
+
+        List<LinkedHashMap<String, Object>> ret = new ArrayList<>();
         for (String id : ids) {
             for (String resourceType : resourceTypes) {
-                try {
-                    someResources.add(genericService.get(resourceType, id));
-                } catch (ResourceNotFoundException _) {
-                    // ignored
+                Bundle bundle = resourcesByType.get(resourceType).get(id);
+                if (bundle != null) {
+                    ret.add(bundle.toPublicMap());
                 }
             }
         }
 
-        List<?> ret = someResources.stream()
-                .map(r -> ((Bundle) r).toPublicMap())
-                .toList();
-
         return new ResponseEntity<>(ret, HttpStatus.OK);
     }
 }
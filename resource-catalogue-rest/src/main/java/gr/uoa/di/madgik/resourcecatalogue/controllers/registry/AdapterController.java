@@ -46,7 +46,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -151,7 +150,7 @@ public class AdapterController extends ResourceCatalogueGenericController<Adapte
         bundle.setAdapter(adapter);
         AdapterBundle ret = service.add(bundle, auth);
         logger.info("Added Adapter with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getAdapter(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getAdapter(), addedStatus());
     }
 
     @PostMapping(path = {"/bundle"})
@@ -160,7 +159,7 @@ public class AdapterController extends ResourceCatalogueGenericController<Adapte
                                                    @Parameter(hidden = true) Authentication auth) {
         AdapterBundle bundle = service.add(adapterBundle, auth);
         logger.info("Added AdapterBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @PostMapping(path = "/addBulk")
@@ -284,10 +283,7 @@ public class AdapterController extends ResourceCatalogueGenericController<Adapte
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(AdapterBundle::getAdapter)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), AdapterBundle::getAdapter);
     }
 
     @BrowseParameters
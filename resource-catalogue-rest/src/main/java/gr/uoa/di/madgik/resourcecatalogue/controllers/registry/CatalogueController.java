@@ -50,7 +50,6 @@ import org.springframework.web.servlet.HandlerMapping;
 
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -190,7 +189,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogue(catalogue);
         CatalogueBundle ret = service.add(bundle, auth);
         logger.info("Added Catalogue with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getCatalogue(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getCatalogue(), addedStatus());
     }
 
     @PostMapping(path = {"/bundle"})
@@ -199,7 +198,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
                                                      @Parameter(hidden = true) Authentication auth) {
         CatalogueBundle bundle = service.add(catalogueBundle, auth);
         logger.info("Added CatalogueBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @PostMapping(path = "/addBulk")
@@ -320,10 +319,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(CatalogueBundle::getCatalogue)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), CatalogueBundle::getCatalogue);
     }
 
     @BrowseParameters
@@ -557,7 +553,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         OrganisationBundle ret = organisationService.add(bundle, auth);
         logger.info("Added Provider with id '{}' in the Catalogue '{}'", provider.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getOrganisation(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getOrganisation(), addedStatus());
     }
 
     @Hidden
@@ -573,7 +569,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         provider.setCatalogueId(catalogueId);
         OrganisationBundle bundle = organisationService.add(provider, auth);
         logger.info("Added the Provider Bundle with id '{}' in the Catalogue '{}'", provider.getId(), catalogueId);
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @Operation(description = "Updates the Provider of the specific Catalogue.")
@@ -733,7 +729,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         ServiceBundle ret = serviceService.add(bundle, auth);
         logger.info("Added Service with id '{}' in the Catalogue '{}'", service.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getService(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getService(), addedStatus());
     }
 
     @Operation(description = "Updates the Service of the specific Catalogue.")
@@ -868,7 +864,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         DatasourceBundle ret = datasourceService.add(bundle, auth);
         logger.info("Added Datasource with id '{}' in the Catalogue '{}'", datasource.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getDatasource(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getDatasource(), addedStatus());
     }
 
     @Operation(description = "Updates the Datasource of the specific Catalogue.")
@@ -1003,7 +999,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         AdapterBundle ret = adapterService.add(bundle, auth);
         logger.info("Added Adapter with id '{}' in the Catalogue '{}'", adapter.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getAdapter(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getAdapter(), addedStatus());
     }
 
     @Operation(description = "Updates the Adapter of the specific Catalogue.")
@@ -1139,7 +1135,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         TrainingResourceBundle ret = trainingResourceService.add(bundle, auth);
         logger.info("Added Training Resource with id '{}' in the Catalogue '{}'", trainingResource.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getTrainingResource(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getTrainingResource(), addedStatus());
     }
 
     @Operation(description = "Updates the Training Resource of the specific Catalogue.")
@@ -1276,7 +1272,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         DeployableApplicationBundle ret = deployableApplicationService.add(bundle, auth);
         logger.info("Added Deployable Application with id '{}' in the Catalogue '{}'", deployableApplication.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getDeployableApplication(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getDeployableApplication(), addedStatus());
     }
 
     @Operation(description = "Updates the Deployable Application of the specific Catalogue.")
@@ -1411,7 +1407,7 @@ public class CatalogueController extends ResourceCatalogueGenericController<Cata
         bundle.setCatalogueId(catalogueId);
         InteroperabilityRecordBundle ret = guidelineService.add(bundle, auth);
         logger.info("Added Interoperability Record with id '{}' in the Catalogue '{}'", interoperabilityRecord.get("id"), catalogueId);
-        return new ResponseEntity<>(ret.getInteroperabilityRecord(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getInteroperabilityRecord(), addedStatus());
     }
 
     @Operation(description = "Updates the Interoperability Record of the specific Catalogue.")
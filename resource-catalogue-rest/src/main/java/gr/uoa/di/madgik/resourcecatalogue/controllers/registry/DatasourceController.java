@@ -50,7 +50,6 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -173,7 +172,7 @@ public class DatasourceController extends ResourceCatalogueGenericController<Dat
         bundle.setDatasource(datasource);
         DatasourceBundle ret = service.add(bundle, openaireId, auth);
         logger.info("Added Datasource with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getDatasource(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getDatasource(), addedStatus());
     }
 
     @PostMapping(path = {"/bundle"})
@@ -182,7 +181,7 @@ public class DatasourceController extends ResourceCatalogueGenericController<Dat
                                                       @Parameter(hidden = true) Authentication auth) {
         DatasourceBundle bundle = service.add(datasource, auth);
         logger.info("Added DatasourceBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @PostMapping(path = "/addBulk")
@@ -305,10 +304,7 @@ public class DatasourceController extends ResourceCatalogueGenericController<Dat
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(DatasourceBundle::getDatasource)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), DatasourceBundle::getDatasource);
     }
 
     @BrowseParameters
@@ -46,7 +46,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -150,7 +149,7 @@ public class DeployableApplicationController extends ResourceCatalogueGenericCon
         bundle.setDeployableApplication(deployableApplication);
         DeployableApplicationBundle ret = service.add(bundle, auth);
         logger.info("Added Deployable Application with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getDeployableApplication(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getDeployableApplication(), addedStatus());
     }
 
     @PostMapping(path = {"/bundle"})
@@ -159,7 +158,7 @@ public class DeployableApplicationController extends ResourceCatalogueGenericCon
                                                                  @Parameter(hidden = true) Authentication auth) {
         DeployableApplicationBundle bundle = service.add(deployableApplicationBundle, auth);
         logger.info("Added DeployableApplicationBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @PostMapping(path = "/addBulk")
@@ -282,10 +281,7 @@ public class DeployableApplicationController extends ResourceCatalogueGenericCon
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(DeployableApplicationBundle::getDeployableApplication)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), DeployableApplicationBundle::getDeployableApplication);
     }
 
     @BrowseParameters
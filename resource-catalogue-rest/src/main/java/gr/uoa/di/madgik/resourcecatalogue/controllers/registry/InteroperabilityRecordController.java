@@ -49,7 +49,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -165,7 +164,7 @@ public class InteroperabilityRecordController
         bundle.setInteroperabilityRecord(guideline);
         InteroperabilityRecordBundle ret = service.add(bundle, auth);
         logger.info("Added Interoperability Record with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getInteroperabilityRecord(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getInteroperabilityRecord(), addedStatus());
     }
 
     @Tag(name = "InteroperabilityRecordAdmin")
@@ -175,7 +174,7 @@ public class InteroperabilityRecordController
                                                                   @Parameter(hidden = true) Authentication auth) {
         InteroperabilityRecordBundle bundle = service.add(guideline, auth);
         logger.info("Added InteroperabilityRecordBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @Tag(name = "InteroperabilityRecordAdmin")
@@ -311,10 +310,7 @@ public class InteroperabilityRecordController
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(InteroperabilityRecordBundle::getInteroperabilityRecord)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), InteroperabilityRecordBundle::getInteroperabilityRecord);
     }
 
     @Tag(name = "InteroperabilityRecordRead")
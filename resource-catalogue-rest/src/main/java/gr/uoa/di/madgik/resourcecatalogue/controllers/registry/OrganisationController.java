@@ -153,7 +153,7 @@ public class OrganisationController extends ResourceCatalogueGenericController<O
         bundle.setOrganisation(provider);
         OrganisationBundle ret = service.add(bundle, auth);
         logger.info("Added Provider with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getOrganisation(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getOrganisation(), addedStatus());
     }
 
     @PostMapping(path = "/bundle")
@@ -162,7 +162,7 @@ public class OrganisationController extends ResourceCatalogueGenericController<O
                                                         @Parameter(hidden = true) Authentication auth) {
         OrganisationBundle bundle = service.add(provider, auth);
         logger.info("Added OrganisationBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @PostMapping(path = "/addBulk")
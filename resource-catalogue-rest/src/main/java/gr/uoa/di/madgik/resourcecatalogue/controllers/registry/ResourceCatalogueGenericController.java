@@ -3,23 +3,76 @@ package gr.uoa.di.madgik.resourcecatalogue.controllers.registry;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import gr.uoa.di.madgik.resourcecatalogue.dto.Value;
+import gr.uoa.di.madgik.resourcecatalogue.service.BulkIngestService;
 import gr.uoa.di.madgik.resourcecatalogue.service.ResourceCatalogueGenericService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 //TODO: populated with common controller methods
 //TODO: @Override on child methods that needs to override (eg. ServiceController full of @Tags)
 public abstract class ResourceCatalogueGenericController<T extends Bundle, S extends ResourceCatalogueGenericService<T>> {
 
+    /**
+     * Lists, comma separated, the requested ids that did not match any resource.
+     */
+    public static final String MISSING_IDS_HEADER = "X-Missing-Ids";
+
     protected final S service;
     protected final String resourceName;
+    private final Class<T> bundleType;
+
+    @Autowired
+    private BulkIngestService bulkIngestService;
+    @org.springframework.beans.factory.annotation.Value("${catalogue.onboarding.async:false}")
+    private boolean asyncOnboarding;
 
+    @SuppressWarnings("unchecked")
     public ResourceCatalogueGenericController(S service, String resourceName) {
         this.service = service;
         this.resourceName = resourceName;
+        this.bundleType = (Class<T>) GenericTypeResolver.resolveTypeArguments(
+                getClass(), ResourceCatalogueGenericController.class)[0];
+    }
+
+    /**
+     * @return the status of a response to an added resource; {@code 202 Accepted} while its onboarding may still
+     * be running in the background, {@code 201 Created} otherwise
+     */
+    protected HttpStatus addedStatus() {
+        return asyncOnboarding ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+    }
+
+    /**
+     * @return the payloads of the resources found for the given ids, in the order of the ids, with the ids that
+     * were not found in the {@value #MISSING_IDS_HEADER} header
+     */
+    protected <R> ResponseEntity<List<R>> getSomeResponse(String[] ids, List<T> found,
+                                                          Function<? super T, ? extends R> payload) {
+        Set<String> foundIds = found.stream().map(Bundle::getId).collect(Collectors.toSet());
+        List<String> missing = Arrays.stream(ids).filter(id -> !foundIds.contains(id)).distinct().toList();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!missing.isEmpty()) {
+            response.header(MISSING_IDS_HEADER, String.join(",", missing));
+        }
+        return response.body(found.stream().<R>map(payload).collect(Collectors.toList()));
     }
 
     @GetMapping(path = "list")
@@ -48,4 +101,12 @@ public abstract class ResourceCatalogueGenericController<T extends Bundle, S ext
             return false;
         }
     }
+
+    @Operation(summary = "Adds the bundles of an NDJSON stream (one bundle per line) and reports the outcome of each line.")
+    @PostMapping(path = "/addBulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public List<BulkIngestService.ItemResult> addBulkStream(InputStream bundles,
+                                                           @Parameter(hidden = true) Authentication auth) {
+        return bulkIngestService.ingest(bundles, bundleType, service, auth);
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.controllers.registry;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.User;
+import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
+import gr.uoa.di.madgik.resourcecatalogue.service.SecurityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.Authentication;
+
+import java.util.*;
+
+/**
+ * Answers the ownership checks of a single response. The owning organisations of all bundles in the response
+ * are loaded with one query, instead of one registry read per bundle.
+ */
+class ResourceOwnershipResolver {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceOwnershipResolver.class);
+
+    private final SecurityService securityService;
+    private final Authentication auth;
+    private final String email;
+    private final Map<String, Boolean> adminOf = new HashMap<>();
+
+    ResourceOwnershipResolver(SecurityService securityService, OrganisationService organisationService,
+                              Authentication auth, Collection<?> objects) {
+        this.securityService = securityService;
+        this.auth = auth;
+        this.email = authenticatedEmail(securityService, auth);
+        if (email != null) {
+            Set<String> organisationIds = new LinkedHashSet<>();
+            for (Object object : objects) {
+                String organisationId = owningOrganisationId(object);
+                if (organisationId != null) {
+                    organisationIds.add(organisationId);
+                }
+            }
+            loadOrganisations(organisationService, organisationIds);
+        }
+    }
+
+    /**
+     * @param organisation the organisation bundle
+     * @return True if the authenticated user is one of the organisation's admins
+     */
+    boolean hasAdminAccess(OrganisationBundle organisation) {
+        if (email == null) {
+            return false;
+        }
+        Boolean admin = adminOf.get(organisation.getId());
+        return admin != null ? admin : securityService.hasAdminAccess(auth, organisation.getId());
+    }
+
+    /**
+     * @param bundle the resource bundle
+     * @return True if the authenticated user is an admin of the organisation owning the resource
+     */
+    boolean isResourceAdmin(Bundle bundle) {
+        if (email == null) {
+            return false;
+        }
+        Boolean admin = adminOf.get(owningOrganisationId(bundle));
+        return admin != null ? admin : securityService.isResourceAdmin(auth, bundle.getId());
+    }
+
+    private void loadOrganisations(OrganisationService organisationService, Set<String> organisationIds) {
+        if (organisationIds.isEmpty()) {
+            return;
+        }
+        FacetFilter ff = new FacetFilter();
+        ff.setQuantity(organisationIds.size());
+        ff.addFilter("resource_internal_id", new ArrayList<>(organisationIds));
+        try {
+            for (OrganisationBundle organisation : organisationService.getAll(ff).getResults()) {
+                adminOf.put(organisation.getId(), hasUser(organisation, email));
+            }
+        } catch (RuntimeException e) {
+            // unresolved ids fall back to the per-item checks of the SecurityService
+            logger.warn("Could not load organisations {}: {}", organisationIds, e.getMessage());
+            return;
+        }
+        for (String organisationId : organisationIds) {
+            adminOf.putIfAbsent(organisationId, false);
+        }
+    }
+
+    private static String owningOrganisationId(Object object) {
+        if (object instanceof OrganisationBundle organisation) {
+            return organisation.getId();
+        }
+        if (object instanceof Bundle bundle && bundle.getPayload().get("resourceOwner") instanceof String owner) {
+            return owner;
+        }
+        return null;
+    }
+
+    private static boolean hasUser(OrganisationBundle organisation, String email) {
+        if (!(organisation.getOrganisation().get("users") instanceof List<?> users)) {
+            return false;
+        }
+        return users.stream()
+                .filter(obj -> obj instanceof Map<?, ?>)
+                .map(obj -> User.fromMap((Map<?, ?>) obj).getEmail())
+                .anyMatch(email::equalsIgnoreCase);
+    }
+
+    private static String authenticatedEmail(SecurityService securityService, Authentication auth) {
+        if (auth == null || securityService.hasRole(auth, "ROLE_ANONYMOUS")) {
+            return null;
+        }
+        try {
+            String email = User.of(auth).getEmail();
+            return email == null || email.isBlank() ? null : email;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
@@ -21,10 +21,15 @@ import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
 import gr.uoa.di.madgik.resourcecatalogue.service.AuthoritiesMapper;
 import gr.uoa.di.madgik.resourcecatalogue.service.NodeResolver;
+import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
 import gr.uoa.di.madgik.resourcecatalogue.service.SecurityService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Profile;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
@@ -49,16 +54,23 @@ public class SecureResponseAdvice<T> implements ResponseBodyAdvice<T> {
     private final SecurityService securityService;
     private final AuthoritiesMapper authoritiesMapper;
     private final NodeResolver nodeResolver;
+    private final OrganisationService organisationService;
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
 
     private final String epotEmail;
 
     public SecureResponseAdvice(SecurityService securityService, AuthoritiesMapper authoritiesMapper,
                                 @Value("${catalogue.email-properties.registration-emails.to:registration@catalogue.eu}") String epotEmail,
-                                NodeResolver nodeResolver) {
+                                NodeResolver nodeResolver,
+                                @Lazy OrganisationService organisationService,
+                                ObjectProvider<ObservationRegistry> observationRegistry) {
         this.securityService = securityService;
         this.authoritiesMapper = authoritiesMapper;
         this.epotEmail = epotEmail;
         this.nodeResolver = nodeResolver;
+        this.organisationService = organisationService;
+        this.observationRegistry = observationRegistry;
     }
 
     private static final Logger logger = LoggerFactory.getLogger(SecureResponseAdvice.class);
@@ -74,22 +86,32 @@ public class SecureResponseAdvice<T> implements ResponseBodyAdvice<T> {
                              Class<? extends HttpMessageConverter<?>> aClass,
                              ServerHttpRequest serverHttpRequest,
                              ServerHttpResponse serverHttpResponse) {
+        return Observation.createNotStarted("catalogue.advice",
+                        observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .lowCardinalityKeyValue("advice", SecureResponseAdvice.class.getSimpleName())
+                .lowCardinalityKeyValue("hook", "beforeBodyWrite")
+                .observe(() -> secure(t));
+    }
+
+    private T secure(T t) {
         if (t != null) {
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
             fixNodeFacets(t);
 
             if (t != null && !securityService.hasRole(auth, "ROLE_ADMIN") && !securityService.hasRole(auth, "ROLE_EPOT")) {
                 logger.trace("User is not Admin nor EPOT: attempting to remove sensitive information");
+                Collection<T> objects;
                 if (Collection.class.isAssignableFrom(t.getClass())) {
-                    for (T object : ((Collection<T>) t)) {
-                        modifyContent(object, auth);
-                    }
+                    objects = (Collection<T>) t;
                 } else if (Paging.class.isAssignableFrom(t.getClass())) {
-                    for (T object : ((Paging<T>) t).getResults()) {
-                        modifyContent(object, auth);
-                    }
+                    objects = ((Paging<T>) t).getResults();
                 } else {
-                    modifyContent(t, auth);
+                    objects = List.of(t);
+                }
+                ResourceOwnershipResolver ownership =
+                        new ResourceOwnershipResolver(securityService, organisationService, auth, objects);
+                for (T object : objects) {
+                    modifyContent(object, ownership);
                 }
                 logger.debug("Final Object: {}", t);
             }
@@ -120,36 +142,36 @@ public class SecureResponseAdvice<T> implements ResponseBodyAdvice<T> {
     }
 
     //TODO: enable for LinkedHasMap too
-    protected void modifyContent(T t, Authentication auth) {
+    protected void modifyContent(T t, ResourceOwnershipResolver ownership) {
         if (t instanceof OrganisationBundle) {
-            modifyOrganisationBundle(t, auth);
+            modifyOrganisationBundle(t, ownership);
         } else if (t instanceof AdapterBundle) {
-            modifyAdapterBundle(t, auth);
+            modifyAdapterBundle(t, ownership);
         } else if (t instanceof ServiceBundle) {
-            modifyServiceBundle(t, auth);
+            modifyServiceBundle(t, ownership);
         } else if (t instanceof CatalogueBundle) {
-            modifyCatalogueBundle(t, auth);
+            modifyCatalogueBundle(t, ownership);
         } else if (t instanceof DatasourceBundle) {
-            modifyDatasourceBundle(t, auth);
+            modifyDatasourceBundle(t, ownership);
         } else if (t instanceof TrainingResourceBundle) {
-            modifyTrainingResourceBundle(t, auth);
+            modifyTrainingResourceBundle(t, ownership);
         } else if (t instanceof DeployableApplicationBundle) {
-            modifyDeployableApplicationBundle(t, auth);
+            modifyDeployableApplicationBundle(t, ownership);
         } else if (t instanceof InteroperabilityRecordBundle) {
-            modifyInteroperabilityRecordBundle(t, auth);
+            modifyInteroperabilityRecordBundle(t, ownership);
         } else if (t instanceof LoggingInfo) {
             modifyLoggingInfo(t);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyOrganisationBundle(T bundle, Authentication auth) {
+    private void modifyOrganisationBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((OrganisationBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((OrganisationBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((OrganisationBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((OrganisationBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.hasAdminAccess(auth, ((OrganisationBundle) bundle).getId())) {
+        if (!ownership.hasAdminAccess((OrganisationBundle) bundle)) {
             LinkedHashMap<String, Object> org = ((OrganisationBundle) bundle).getOrganisation();
             nullifyMainContactEmails(org);
             org.put("users", null);
@@ -158,91 +180,91 @@ public class SecureResponseAdvice<T> implements ResponseBodyAdvice<T> {
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyAdapterBundle(T bundle, Authentication auth) {
+    private void modifyAdapterBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((AdapterBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((AdapterBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((AdapterBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((AdapterBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((AdapterBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((AdapterBundle) bundle)) {
             nullifyCreatorEmails(((AdapterBundle) bundle).getAdapter());
             ((AdapterBundle) bundle).getMetadata().setTerms(null);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyServiceBundle(T bundle, Authentication auth) {
+    private void modifyServiceBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((ServiceBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((ServiceBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((ServiceBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((ServiceBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((ServiceBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((ServiceBundle) bundle)) {
             nullifyMainContactEmails(((ServiceBundle) bundle).getService());
             ((ServiceBundle) bundle).getMetadata().setTerms(null);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyCatalogueBundle(T bundle, Authentication auth) {
+    private void modifyCatalogueBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((CatalogueBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((CatalogueBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((CatalogueBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((CatalogueBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((CatalogueBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((CatalogueBundle) bundle)) {
             nullifyMainContactEmails(((CatalogueBundle) bundle).getCatalogue());
             ((CatalogueBundle) bundle).getMetadata().setTerms(null);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyDatasourceBundle(T bundle, Authentication auth) {
+    private void modifyDatasourceBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((DatasourceBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((DatasourceBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((DatasourceBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((DatasourceBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((DatasourceBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((DatasourceBundle) bundle)) {
             nullifyMainContactEmails(((DatasourceBundle) bundle).getDatasource());
             ((DatasourceBundle) bundle).getMetadata().setTerms(null);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyTrainingResourceBundle(T bundle, Authentication auth) {
+    private void modifyTrainingResourceBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((TrainingResourceBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((TrainingResourceBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((TrainingResourceBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((TrainingResourceBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((TrainingResourceBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((TrainingResourceBundle) bundle)) {
             nullifyCreatorEmails(((TrainingResourceBundle) bundle).getTrainingResource());
             ((TrainingResourceBundle) bundle).getMetadata().setTerms(null);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyDeployableApplicationBundle(T bundle, Authentication auth) {
+    private void modifyDeployableApplicationBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((DeployableApplicationBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((DeployableApplicationBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((DeployableApplicationBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((DeployableApplicationBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((DeployableApplicationBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((DeployableApplicationBundle) bundle)) {
             nullifyCreatorEmails(((DeployableApplicationBundle) bundle).getDeployableApplication());
             ((DeployableApplicationBundle) bundle).getMetadata().setTerms(null);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private void modifyInteroperabilityRecordBundle(T bundle, Authentication auth) {
+    private void modifyInteroperabilityRecordBundle(T bundle, ResourceOwnershipResolver ownership) {
         modifyLoggingInfoList((T) ((InteroperabilityRecordBundle) bundle).getLoggingInfo());
         modifyLoggingInfo((T) ((InteroperabilityRecordBundle) bundle).getLatestAuditInfo());
         modifyLoggingInfo((T) ((InteroperabilityRecordBundle) bundle).getLatestUpdateInfo());
         modifyLoggingInfo((T) ((InteroperabilityRecordBundle) bundle).getLatestOnboardingInfo());
 
-        if (!this.securityService.isResourceAdmin(auth, ((InteroperabilityRecordBundle) bundle).getId())) {
+        if (!ownership.isResourceAdmin((InteroperabilityRecordBundle) bundle)) {
             nullifyCreatorEmails(((InteroperabilityRecordBundle) bundle).getInteroperabilityRecord());
             ((InteroperabilityRecordBundle) bundle).getMetadata().setTerms(null);
         }
@@ -46,7 +46,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -177,7 +176,7 @@ public class ServiceController extends ResourceCatalogueGenericController<Servic
         bundle.setService(serviceMap);
         ServiceBundle ret = service.add(bundle, auth);
         logger.info("Added Service with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getService(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getService(), addedStatus());
     }
 
     @Tag(name = "ServiceAdmin")
@@ -187,7 +186,7 @@ public class ServiceController extends ResourceCatalogueGenericController<Servic
                                                    @Parameter(hidden = true) Authentication auth) {
         ServiceBundle bundle = service.add(serviceBundle, auth);
         logger.info("Added ServiceBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @Tag(name = "ServiceAdmin")
@@ -321,10 +320,7 @@ public class ServiceController extends ResourceCatalogueGenericController<Servic
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(ServiceBundle::getService)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), ServiceBundle::getService);
     }
 
     @Tag(name = "ServiceRead")
@@ -44,7 +44,6 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Profile("beyond")
 @RestController
@@ -170,7 +169,7 @@ public class TrainingResourceController extends ResourceCatalogueGenericControll
         bundle.setTrainingResource(trainingResource);
         TrainingResourceBundle ret = service.add(bundle, auth);
         logger.info("Added Training Resource with id '{}'", bundle.getId());
-        return new ResponseEntity<>(ret.getTrainingResource(), HttpStatus.CREATED);
+        return new ResponseEntity<>(ret.getTrainingResource(), addedStatus());
     }
 
     @PostMapping(path = {"/bundle"})
@@ -179,7 +178,7 @@ public class TrainingResourceController extends ResourceCatalogueGenericControll
                                                             @Parameter(hidden = true) Authentication auth) {
         TrainingResourceBundle bundle = service.add(trainingResource, auth);
         logger.info("Added TrainingResourceBundle with id '{}'", bundle.getId());
-        return new ResponseEntity<>(bundle, HttpStatus.CREATED);
+        return new ResponseEntity<>(bundle, addedStatus());
     }
 
     @PostMapping(path = "/addBulk")
@@ -302,10 +301,7 @@ public class TrainingResourceController extends ResourceCatalogueGenericControll
     @GetMapping(path = "ids")
     public ResponseEntity<List<LinkedHashMap<String, Object>>> getSome(@RequestParam("ids") String[] ids,
                                                                        @Parameter(hidden = true) Authentication auth) {
-        return ResponseEntity.ok(service.getByIds(auth, ids)
-                .stream()
-                .map(TrainingResourceBundle::getTrainingResource)
-                .collect(Collectors.toList()));
+        return getSomeResponse(ids, service.getByIds(auth, ids), TrainingResourceBundle::getTrainingResource);
     }
 
     @BrowseParameters
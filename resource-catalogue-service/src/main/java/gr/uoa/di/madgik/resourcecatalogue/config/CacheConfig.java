@@ -14,10 +14,20 @@
  * limitations under the License.
  */
 
+
 package gr.uoa.di.madgik.resourcecatalogue.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import gr.uoa.di.madgik.resourcecatalogue.config.properties.CacheProperties;
+import gr.uoa.di.madgik.resourcecatalogue.config.properties.CatalogueProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
@@ -25,17 +35,71 @@ import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Map;
+
+/**
+ * Builds every cache from its spec in {@code catalogue.cache}, recording statistics, and publishes the hit, miss
+ * and eviction counts of each cache to the meter registry.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfig implements CachingConfigurer {
     private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
 
+    private final CacheProperties cacheProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Autowired(required = false)
+    private Map<String, CacheLoader<Object, Object>> cacheLoaders = Map.of();
+
+    public CacheConfig(CatalogueProperties catalogueProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cacheProperties = catalogueProperties.getCache();
+        this.meterRegistry = meterRegistry;
+    }
+
     @Bean
     @Override
     public CacheManager cacheManager() {
-        CaffeineCacheManager manager = new CaffeineCacheManager();
+        CaffeineCacheManager manager = new CaffeineCacheManager() {
+            @Override
+            protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+                return createCache(name);
+            }
+        };
         manager.setAsyncCacheMode(false);
 
         return manager;
     }
+
+    private Cache<Object, Object> createCache(String name) {
+        CacheProperties.Spec spec = cacheProperties.getSpec(name);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+
+        Cache<Object, Object> cache;
+        if (spec.getRefreshAfterWrite() != null) {
+            // refreshing needs to know how to reload an entry, which a cache filled through @Cacheable does not
+            CacheLoader<Object, Object> loader = cacheLoaders.get(name);
+            if (loader == null) {
+                throw new IllegalStateException("Cache '%s' has a refresh-after-write but no CacheLoader bean named '%s'"
+                        .formatted(name, name));
+            }
+            cache = builder.refreshAfterWrite(spec.getRefreshAfterWrite()).build(loader);
+        } else {
+            cache = builder.build();
+        }
+        logger.debug("Created cache '{}' [maximumSize: {}, expireAfterWrite: {}, refreshAfterWrite: {}]", name,
+                spec.getMaximumSize(), spec.getExpireAfterWrite(), spec.getRefreshAfterWrite());
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, name);
+        }
+        return cache;
+    }
 }
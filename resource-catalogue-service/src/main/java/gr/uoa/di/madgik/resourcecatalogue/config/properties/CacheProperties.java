@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.config.properties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+
+public class CacheProperties {
+
+    /**
+     * The spec of every cache without a spec of its own, and of the properties a cache spec leaves unset.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * The spec of each cache, by cache name.
+     */
+    private Map<String, Spec> specs = new HashMap<>();
+
+    public CacheProperties() {
+    }
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Spec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Spec> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, Spec> specs) {
+        this.specs = specs;
+    }
+
+    /**
+     * @return the spec of the given cache, completed with the defaults
+     */
+    public Spec getSpec(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        return new Spec()
+                .setMaximumSize(spec.getMaximumSize() != null ? spec.getMaximumSize() : defaults.getMaximumSize())
+                .setExpireAfterWrite(spec.getExpireAfterWrite() != null ? spec.getExpireAfterWrite() : defaults.getExpireAfterWrite())
+                .setRefreshAfterWrite(spec.getRefreshAfterWrite() != null ? spec.getRefreshAfterWrite() : defaults.getRefreshAfterWrite());
+    }
+
+    public static class Spec {
+
+        /**
+         * The maximum number of entries of the cache (optional).
+         */
+        private Long maximumSize;
+
+        /**
+         * How long an entry is kept after it was written (optional).
+         */
+        private Duration expireAfterWrite;
+
+        /**
+         * How long after it was written an entry is reloaded on its next access (optional). Requires a
+         * {@code CacheLoader} bean named after the cache.
+         */
+        private Duration refreshAfterWrite;
+
+        public Spec() {
+        }
+
+        public Long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public Spec setMaximumSize(Long maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        public Duration getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public Spec setExpireAfterWrite(Duration expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        public Duration getRefreshAfterWrite() {
+            return refreshAfterWrite;
+        }
+
+        public Spec setRefreshAfterWrite(Duration refreshAfterWrite) {
+            this.refreshAfterWrite = refreshAfterWrite;
+            return this;
+        }
+    }
+}
@@ -89,6 +89,12 @@ public class CatalogueProperties {
     @NestedConfigurationProperty
     private MailerProperties mailer = new MailerProperties();
 
+    /**
+     * Catalogue cache properties
+     */
+    @NestedConfigurationProperty
+    private CacheProperties cache = new CacheProperties();
+
 
     public CatalogueProperties() {
     }
@@ -178,6 +184,15 @@ public class CatalogueProperties {
         return this;
     }
 
+    public CacheProperties getCache() {
+        return cache;
+    }
+
+    public CatalogueProperties setCache(CacheProperties cache) {
+        this.cache = cache;
+        return this;
+    }
+
     public Map<ResourceTypes, ResourceProperties> getResources() {
         return resources;
     }
@@ -22,6 +22,7 @@ import gr.uoa.di.madgik.resourcecatalogue.config.dynamicproperties.PropertyChang
 import gr.uoa.di.madgik.resourcecatalogue.config.properties.CatalogueProperties;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.User;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
 import gr.uoa.di.madgik.resourcecatalogue.service.AuthoritiesMapper;
 import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
 import gr.uoa.di.madgik.resourcecatalogue.service.SecurityService;
@@ -32,24 +33,28 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
-import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @Profile("!no-auth")
 @Component
 public class InMemoryAuthoritiesMapper implements AuthoritiesMapper {
 
     private static final Logger logger = LoggerFactory.getLogger(InMemoryAuthoritiesMapper.class);
-    private Set<String> providerUsers = new HashSet<>();
+    private final Object indexLock = new Object();
+    private final Object reloadLock = new Object();
+    private volatile ProviderIndex providerIndex = ProviderIndex.EMPTY;
+    /**
+     * The provider changes received while a reload is in progress, replayed on top of the reloaded index.
+     * Guarded by {@code indexLock}; null when no reload is in progress.
+     */
+    private Map<String, Set<String>> changesDuringReload;
     private Set<String> catalogueUsers = new HashSet<>();
     private final Map<String, Set<SimpleGrantedAuthority>> adminsAndEpot = new HashMap<>();
 
@@ -60,8 +65,6 @@ public class InMemoryAuthoritiesMapper implements AuthoritiesMapper {
     private final CatalogueProperties catalogueProperties;
 
 
-    private final ReentrantLock lock = new ReentrantLock();
-
     public InMemoryAuthoritiesMapper(CatalogueProperties catalogueProperties,
                                      OrganisationService manager,
 //                                     CatalogueService catalogueService,
@@ -116,9 +119,46 @@ public class InMemoryAuthoritiesMapper implements AuthoritiesMapper {
         }
     }
 
+    /**
+     * Rebuilds the whole user index from the registry. Between reloads the index is kept current
+     * by {@link #onResourceChange(ResourceChangeEvent)}.
+     * <p>
+     * The new index is built aside and published with a single swap, so readers never see a partial index.
+     * Provider changes received while the registry is read are replayed on top of it, so a reload never
+     * overwrites a newer change with the older registry snapshot.
+     */
     @Override
+    @Scheduled(initialDelayString = "${catalogue.authorities.refresh-rate:600000}",
+            fixedDelayString = "${catalogue.authorities.refresh-rate:600000}")
     public void updateAuthorities() {
         long time = System.nanoTime();
+        synchronized (reloadLock) {
+            synchronized (indexLock) {
+                changesDuringReload = new HashMap<>();
+            }
+            try {
+                Map<String, Set<String>> users = loadProviderUsers();
+                synchronized (indexLock) {
+                    changesDuringReload.forEach((providerId, emails) -> {
+                        if (emails.isEmpty()) {
+                            users.remove(providerId);
+                        } else {
+                            users.put(providerId, emails);
+                        }
+                    });
+                    providerIndex = ProviderIndex.of(users);
+                }
+            } finally {
+                synchronized (indexLock) {
+                    changesDuringReload = null;
+                }
+            }
+        }
+//        catalogueUsers = getCatalogueUserEmails(catalogues); //FIXME
+        logger.debug("Update Authorities took {} ms", (System.nanoTime() - time) / 1000000);
+    }
+
+    private Map<String, Set<String>> loadProviderUsers() {
         FacetFilter ff = new FacetFilter();
         ff.addFilter("published", false);
         ff.setQuantity(Integer.MAX_VALUE);
@@ -139,37 +179,29 @@ public class InMemoryAuthoritiesMapper implements AuthoritiesMapper {
 //            logger.warn("There are no Catalogue entries in DB");
 //        }
 
-        lock.lock();
-        providerUsers = getProviderUserEmails(providers);
-//        catalogueUsers = getCatalogueUserEmails(catalogues); //FIXME
-        lock.unlock();
-        logger.debug("Update Authorities took {} ms", (System.nanoTime() - time) / 1000000);
+        Map<String, Set<String>> users = new HashMap<>();
+        for (OrganisationBundle provider : providers) {
+            Set<String> emails = getProviderUserEmails(provider);
+            if (!emails.isEmpty()) {
+                users.put(provider.getId(), emails);
+            }
+        }
+        return users;
     }
 
     @Override
     public Set<GrantedAuthority> getAuthorities(String email) {
         long time = System.nanoTime();
-        updateAuthorities();
 
         Set<GrantedAuthority> authorities = new HashSet<>();
 
         authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
 
-        try {
-            if (!lock.tryLock(10, TimeUnit.SECONDS)) {
-                throw new InsufficientAuthenticationException("Could not authorize user. Try again...");
-            }
-            if (providerUsers.contains(email.toLowerCase())) {
-                authorities.add(new SimpleGrantedAuthority("ROLE_PROVIDER"));
-            }
-            if (catalogueUsers.contains(email.toLowerCase())) {
-                authorities.add(new SimpleGrantedAuthority("ROLE_CATALOGUE_ADMIN"));
-            }
-        } catch (InterruptedException e) {
-            logger.error(e.getMessage(), e);
-            throw new RuntimeException(e);
-        } finally {
-            lock.unlock();
+        if (providerIndex.providersByUser().containsKey(email.toLowerCase())) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_PROVIDER"));
+        }
+        if (catalogueUsers.contains(email.toLowerCase())) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_CATALOGUE_ADMIN"));
         }
         if (adminsAndEpot.containsKey(email.toLowerCase())) {
             authorities.addAll(adminsAndEpot.get(email.toLowerCase()));
@@ -178,15 +210,77 @@ public class InMemoryAuthoritiesMapper implements AuthoritiesMapper {
         return authorities;
     }
 
-    private Set<String> getProviderUserEmails(List<OrganisationBundle> organisationBundles) {
-        return organisationBundles.stream()
-                .flatMap(pb -> {
-                    Object usersObj = pb.getOrganisation().get("users");
-                    if (!(usersObj instanceof List<?> users)) {
-                        return Stream.empty();
+    @EventListener
+    public void onResourceChange(ResourceChangeEvent event) {
+        if (!event.isOfType("organisation") || event.getResourceId() == null) {
+            return;
+        }
+        if (event.getAction() == ResourceChangeEvent.Action.DELETE) {
+            indexProviderUsers(event.getResourceId(), Set.of());
+        } else if (event.getResource() instanceof OrganisationBundle provider
+                && (provider.getMetadata() == null || !provider.getMetadata().isPublished())) {
+            indexProviderUsers(event.getResourceId(), getProviderUserEmails(provider));
+        }
+    }
+
+    /**
+     * Replaces the users of a provider, publishing a new copy of the index.
+     */
+    private void indexProviderUsers(String providerId, Set<String> users) {
+        synchronized (indexLock) {
+            providerIndex = providerIndex.with(providerId, users);
+            if (changesDuringReload != null) {
+                changesDuringReload.put(providerId, users);
+            }
+        }
+    }
+
+    /**
+     * An immutable snapshot of the provider users, indexed both ways.
+     */
+    private record ProviderIndex(Map<String, Set<String>> usersByProvider, Map<String, Set<String>> providersByUser) {
+
+        static final ProviderIndex EMPTY = new ProviderIndex(Map.of(), Map.of());
+
+        static ProviderIndex of(Map<String, Set<String>> usersByProvider) {
+            Map<String, Set<String>> providersByUser = new HashMap<>();
+            usersByProvider.forEach((providerId, users) -> users.forEach(email ->
+                    providersByUser.computeIfAbsent(email, key -> new HashSet<>()).add(providerId)));
+            return new ProviderIndex(usersByProvider, providersByUser);
+        }
+
+        ProviderIndex with(String providerId, Set<String> users) {
+            Map<String, Set<String>> byProvider = new HashMap<>(usersByProvider);
+            Set<String> previous = users.isEmpty() ? byProvider.remove(providerId) : byProvider.put(providerId, users);
+            Map<String, Set<String>> byUser = new HashMap<>(providersByUser);
+            if (previous != null) {
+                for (String email : previous) {
+                    if (!users.contains(email)) {
+                        byUser.computeIfPresent(email, (key, providers) -> {
+                            Set<String> remaining = new HashSet<>(providers);
+                            remaining.remove(providerId);
+                            return remaining.isEmpty() ? null : remaining;
+                        });
                     }
-                    return users.stream();
-                })
+                }
+            }
+            for (String email : users) {
+                byUser.compute(email, (key, providers) -> {
+                    Set<String> updated = providers != null ? new HashSet<>(providers) : new HashSet<>();
+                    updated.add(providerId);
+                    return updated;
+                });
+            }
+            return new ProviderIndex(byProvider, byUser);
+        }
+    }
+
+    private Set<String> getProviderUserEmails(OrganisationBundle organisationBundle) {
+        Object usersObj = organisationBundle.getOrganisation().get("users");
+        if (!(usersObj instanceof List<?> users)) {
+            return Set.of();
+        }
+        return users.stream()
                 .filter(obj -> obj instanceof Map<?, ?>)
                 .map(obj -> mapToUser((Map<?, ?>) obj))
                 .map(User::getEmail)
@@ -92,7 +92,8 @@ public class SecurityConfig {
                                         "/restore/",
                                         "/resources/**",
                                         "/resourceType/**",
-                                        "/search/**").hasAuthority("ROLE_ADMIN")
+                                        "/search/**",
+                                        "/actuator/metrics/**").hasAuthority("ROLE_ADMIN")
                                 .anyRequest().permitAll()
                 )
 
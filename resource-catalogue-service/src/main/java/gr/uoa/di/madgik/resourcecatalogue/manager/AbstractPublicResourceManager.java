@@ -8,11 +8,13 @@ import gr.uoa.di.madgik.registry.service.SearchService;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import gr.uoa.di.madgik.resourcecatalogue.exceptions.CatalogueResourceNotFoundException;
 import gr.uoa.di.madgik.resourcecatalogue.manager.pids.PidIssuer;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
 import gr.uoa.di.madgik.resourcecatalogue.utils.FacetLabelService;
 import gr.uoa.di.madgik.resourcecatalogue.utils.JmsService;
 import org.apache.commons.lang3.NotImplementedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 
@@ -31,6 +33,9 @@ public abstract class AbstractPublicResourceManager<T extends Bundle>
     @Value("${pid.service.enabled}")
     private boolean pidServiceEnabled;
 
+    @Autowired
+    private KeysetPager keysetPager;
+
     protected abstract String getResourceTypeName();
 
     protected AbstractPublicResourceManager(GenericResourceService genericResourceService,
@@ -77,6 +82,14 @@ public abstract class AbstractPublicResourceManager<T extends Bundle>
         return paging;
     }
 
+    @Override
+    public KeysetPager.Page<T> getAll(FacetFilter ff, String cursor) {
+        ff.setResourceType(getResourceTypeName());
+        ff.addFilter("published", true);
+        KeysetPager.Page<String> page = keysetPager.page(ff, cursor);
+        return KeysetPageLoader.load(genericResourceService, getResourceTypeName(), page, true);
+    }
+
     @Override
     public Paging<HighlightedResult<T>> searchResources(FacetFilter ff) {
         ff.setResourceType(getResourceTypeName());
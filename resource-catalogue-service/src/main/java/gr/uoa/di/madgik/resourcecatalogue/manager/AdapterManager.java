@@ -22,8 +22,6 @@ import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
-import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.AdapterBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Vocabulary;
@@ -37,9 +35,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
 
 @org.springframework.stereotype.Service("adapterManager")
 public class AdapterManager extends ResourceCatalogueGenericManager<AdapterBundle> implements AdapterService {
@@ -142,21 +137,5 @@ public class AdapterManager extends ResourceCatalogueGenericManager<AdapterBundl
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<AdapterBundle> getByIds(Authentication auth, String... ids) {
-        List<AdapterBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
     //endregion
 }
@@ -22,7 +22,6 @@ import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.CatalogueBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.ResourceInteroperabilityRecordBundle;
@@ -43,10 +42,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-
 @Service("catalogueManager")
 public class CatalogueManager extends ResourceCatalogueGenericManager<CatalogueBundle> implements CatalogueService {
 
@@ -180,22 +175,6 @@ public class CatalogueManager extends ResourceCatalogueGenericManager<CatalogueB
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<CatalogueBundle> getByIds(Authentication auth, String... ids) {
-        List<CatalogueBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
     //endregion
 
     //region Service-specific
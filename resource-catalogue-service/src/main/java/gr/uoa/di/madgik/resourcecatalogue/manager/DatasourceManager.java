@@ -23,7 +23,6 @@ import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
 import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
 import gr.uoa.di.madgik.resourcecatalogue.exceptions.CatalogueResourceNotFoundException;
@@ -201,24 +200,6 @@ public class DatasourceManager extends ResourceCatalogueGenericManager<Datasourc
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<DatasourceBundle> getByIds(Authentication auth, String... ids) {
-        List<DatasourceBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
-
     @Override
     public Bundle getTemplate(String providerId, Authentication auth) {
         return TemplateOnboardingUtils.getTemplate(providerId, auth, this, vocabularyService);
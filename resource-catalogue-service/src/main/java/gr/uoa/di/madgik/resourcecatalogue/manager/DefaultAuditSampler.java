@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.domain.Paging;
+import gr.uoa.di.madgik.registry.service.GenericResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.LoggingInfo;
+import gr.uoa.di.madgik.resourcecatalogue.service.AuditSampler;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Samples in memory, over the first {@code elastic.index.max_result_window} candidates.
+ * Used when no search backend specific {@link AuditSampler} is available.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class DefaultAuditSampler implements AuditSampler {
+
+    private final GenericResourceService genericResourceService;
+
+    @org.springframework.beans.factory.annotation.Value("${elastic.index.max_result_window:10000}")
+    private int maxQuantity;
+
+    public DefaultAuditSampler(GenericResourceService genericResourceService) {
+        this.genericResourceService = genericResourceService;
+    }
+
+    @Override
+    public List<String> sample(String resourceType, int quantity, Instant auditedBefore) {
+        FacetFilter ff = new FacetFilter();
+        ff.setResourceType(resourceType);
+        ff.setQuantity(maxQuantity);
+        ff.addFilter("status", "approved");
+        ff.addFilter("published", false);
+        ff.addFilter("draft", false);
+        Paging<Bundle> candidates = genericResourceService.getResults(ff);
+
+        List<String> ids = new ArrayList<>();
+        for (Bundle bundle : candidates.getResults()) {
+            LoggingInfo auditInfo = bundle.getLatestAuditInfo();
+            if (auditInfo == null) {
+                ids.add(bundle.getId());
+            } else {
+                try {
+                    if (Long.parseLong(auditInfo.getDate()) < auditedBefore.toEpochMilli()) {
+                        ids.add(bundle.getId());
+                    }
+                } catch (NumberFormatException ignore) {
+                }
+            }
+        }
+        Collections.shuffle(ids);
+        return ids.size() > quantity ? ids.subList(0, quantity) : ids;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.domain.Paging;
+import gr.uoa.di.madgik.registry.exception.ResourceException;
+import gr.uoa.di.madgik.registry.service.GenericResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encodes an offset in the cursor and pages through the regular search, ordered by {@code resource_internal_id}.
+ * Used when no search backend specific {@link KeysetPager} is available, so deep pages are still bounded by
+ * {@code elastic.index.max_result_window}. {@link Range} filters are not supported by the regular search and
+ * are ignored.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class DefaultKeysetPager implements KeysetPager {
+
+    private final GenericResourceService genericResourceService;
+
+    public DefaultKeysetPager(GenericResourceService genericResourceService) {
+        this.genericResourceService = genericResourceService;
+    }
+
+    @Override
+    public Page<String> page(FacetFilter ff, String cursor) {
+        int from = getOffset(cursor);
+        ff.setFrom(from);
+        ff.getFilter().values().removeIf(Range.class::isInstance);
+        Map<String, Object> sort = new HashMap<>();
+        sort.put("resource_internal_id", Map.of("order", "asc"));
+        ff.setOrderBy(sort);
+        Paging<Bundle> paging = genericResourceService.getResults(ff);
+
+        List<String> ids = paging.getResults().stream().map(Bundle::getId).toList();
+        int to = from + ids.size();
+        String next = !ids.isEmpty() && to < paging.getTotal() ? KeysetPager.encodeCursor(String.valueOf(to)) : null;
+        return new Page<>(ids, next);
+    }
+
+    private static int getOffset(String cursor) {
+        String position = KeysetPager.decodeCursor(cursor);
+        if (position == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseUnsignedInt(position);
+        } catch (NumberFormatException e) {
+            throw new ResourceException("Invalid cursor: " + cursor, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -27,15 +27,18 @@ import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
 import gr.uoa.di.madgik.resourcecatalogue.dto.MapValues;
 import gr.uoa.di.madgik.resourcecatalogue.dto.PlaceCount;
 import gr.uoa.di.madgik.resourcecatalogue.dto.Value;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
 import gr.uoa.di.madgik.resourcecatalogue.service.Analytics;
 import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
 import gr.uoa.di.madgik.resourcecatalogue.service.StatisticsService;
 import gr.uoa.di.madgik.resourcecatalogue.service.VocabularyService;
 import org.joda.time.DateTime;
 import java.time.Instant;
-import org.postgresql.jdbc.PgArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
@@ -44,16 +47,20 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
-import java.sql.SQLException;
+import java.sql.Array;
 import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import static gr.uoa.di.madgik.resourcecatalogue.config.Properties.Cache.CACHE_SERVICES_TO_VOCABULARY;
+
 @Component
 @Order(Ordered.LOWEST_PRECEDENCE)
 @EnableScheduling
 public class DefaultStatisticsManager implements StatisticsService {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultStatisticsManager.class);
+    private static final Pattern COLUMN_NAME = Pattern.compile("[a-z_]+");
     private final Analytics analyticsService;
     private final OrganisationService organisationService;
     private final SearchService searchService;
@@ -111,61 +118,47 @@ public class DefaultStatisticsManager implements StatisticsService {
         throw new UnsupportedOperationException("Method has been removed");
     }
 
+    /**
+     * Buckets the events in memory, in a single pass over the fetched events. Only the first
+     * {@code maxQuantity} events of the period are taken into account.
+     */
+    @Override
     public Map<DateTime, Map<String, Long>> events(Event.UserActionType type, Instant from, Instant to, Interval by) {
-        Map<DateTime, Map<String, Long>> results = new LinkedHashMap<>();
         Paging<Resource> resources = searchService.cqlQuery(
                 String.format("type=\"%s\" AND creation_date > %s AND creation_date < %s",
                         type, from.toEpochMilli(), to.toEpochMilli()), "event",
                 maxQuantity, 0, "creation_date", "ASC");
-        List<Event> events = resources
-                .getResults()
-                .stream()
-                .map(resource -> parserService.deserialize(resource, Event.class))
-                .collect(Collectors.toList());
-
 
+        List<DateTime> starts = new ArrayList<>();
+        List<Long> ends = new ArrayList<>();
         DateTime start = new DateTime(from);
         DateTime stop = new DateTime(to);
-
-        Map<DateTime, List<Event>> eventsByDate = new LinkedHashMap<>();
-
-        start.plusWeeks(1);
         while (start.getMillis() <= stop.getMillis()) {
             DateTime endDate = addInterval(start, by);
-            List<Event> weekEvents = new LinkedList<>();
-
-            events = events
-                    .stream()
-                    .map(event -> {
-                        if (endDate.isAfter(event.getInstant())) {
-                            weekEvents.add(event);
-                            return null;
-                        } else
-                            return event;
-                    })
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toList());
-//            weekEvents.sort(Comparator.comparing(Event::getService));
-            eventsByDate.put(start, weekEvents);
+            starts.add(start);
+            ends.add(endDate.getMillis());
             start = endDate;
         }
 
-        for (Map.Entry<DateTime, List<Event>> weekEntry : eventsByDate.entrySet()) {
-            Map<String, Long> weekResults = weekEntry.getValue()
-                    .stream()
-                    .collect(Collectors.groupingBy(Event::getService, Collectors.counting()));
-
-            weekResults = weekResults.entrySet().stream()
-                    .sorted(Map.Entry.comparingByKey())
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue,
-                            (oldValue, newValue) -> oldValue, LinkedHashMap::new));
-
-            results.put(weekEntry.getKey(), weekResults);
+        List<Map<String, Long>> buckets = new ArrayList<>(starts.size());
+        for (int i = 0; i < starts.size(); i++) {
+            buckets.add(new TreeMap<>());
+        }
+        for (Resource resource : resources.getResults()) {
+            Event event = parserService.deserialize(resource, Event.class);
+            // an event belongs to the first bucket ending after it
+            int index = Collections.binarySearch(ends, event.getInstant());
+            index = index >= 0 ? index + 1 : -index - 1;
+            if (index < buckets.size()) {
+                buckets.get(index).merge(event.getService(), 1L, Long::sum);
+            }
         }
 
-
+        Map<DateTime, Map<String, Long>> results = new LinkedHashMap<>();
+        for (int i = 0; i < starts.size(); i++) {
+            results.put(starts.get(i), buckets.get(i));
+        }
         return results;
-
     }
 
     private DateTime addInterval(DateTime date, Interval by) {
@@ -365,54 +358,50 @@ public class DefaultStatisticsManager implements StatisticsService {
     }
 
     @Override
+    @Cacheable(cacheNames = CACHE_SERVICES_TO_VOCABULARY)
     public List<MapValues> mapServicesToVocabulary(String providerId, String vocType) {
+        // the vocabulary is a column name, so it cannot be bound and is checked instead
+        if (vocType == null || !COLUMN_NAME.matcher(vocType).matches()) {
+            throw new IllegalArgumentException(String.format("Unknown vocabulary '%s'", vocType));
+        }
         Map<String, Set<Value>> vocabularyServices = new HashMap<>();
 
-        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
         MapSqlParameterSource in = new MapSqlParameterSource();
-        in.addValue("resourceOwner", providerId);
-
-        String query = "select resource_internal_id,name," + vocType +
-                " from service_view where active=true and published=false";
+        String query = "select resource_internal_id, name, " + vocType +
+                " from service_view where active = true and published = false";
         if (providerId != null) {
-            query += " and resource_owner='" + providerId + "'";
+            query += " and resource_owner = :resourceOwner";
+            in.addValue("resourceOwner", providerId);
         }
 
-        List<Map<String, Object>> records = namedParameterJdbcTemplate.queryForList(query, in);
-
-        try {
-            for (Map<String, Object> entry : records) {
-                Value value = new Value();
-                value.setId(entry.get("resource_internal_id").toString());
-                value.setName(entry.get("name").toString());
-
-                // TODO: refactor this code and Vocabulary enum
-                String[] vocabularyValues;
-                if (!vocType.equals("order_type")) { // because order type is not multivalued
-                    PgArray pgArray = ((PgArray) entry.get(vocType));
-                    vocabularyValues = ((String[]) pgArray.getArray());
-                } else {
-                    vocabularyValues = new String[]{((String) entry.get(vocType))};
-                }
+        new NamedParameterJdbcTemplate(dataSource).query(query, in, rs -> {
+            Value value = new Value();
+            value.setId(rs.getString("resource_internal_id"));
+            value.setName(rs.getString("name"));
 
-                for (String voc : vocabularyValues) {
-                    Set<Value> values;
-                    if (vocabularyServices.containsKey(voc)) {
-                        values = vocabularyServices.get(voc);
-                    } else {
-                        values = new HashSet<>();
-                    }
-                    values.add(value);
-                    vocabularyServices.put(voc, values);
-                }
+            String[] vocabularyValues;
+            if (!vocType.equals("order_type")) { // because order type is not multivalued
+                Array array = rs.getArray(vocType);
+                vocabularyValues = array != null ? (String[]) array.getArray() : new String[0];
+            } else {
+                vocabularyValues = new String[]{rs.getString(vocType)};
             }
-        } catch (SQLException throwables) {
-            logger.error(throwables.getMessage(), throwables);
-        }
+
+            for (String voc : vocabularyValues) {
+                vocabularyServices.computeIfAbsent(voc, k -> new HashSet<>()).add(value);
+            }
+        });
 
         return toListMapValues(vocabularyServices);
     }
 
+    @EventListener(condition = "#root.event.isOfType('service') or #root.event.isOfType('vocabulary')")
+    @CacheEvict(cacheNames = CACHE_SERVICES_TO_VOCABULARY, allEntries = true)
+    public void onResourceChange(ResourceChangeEvent event) {
+        logger.debug("Evicting '{}' after a change of {} '{}'", CACHE_SERVICES_TO_VOCABULARY,
+                event.getResourceType(), event.getResourceId());
+    }
+
     private Map<String, Set<String>> providerCountriesMap() {
         Map<String, Set<String>> providerCountries = new HashMap<>();
         String[] world = vocabularyService.getRegion("WW");
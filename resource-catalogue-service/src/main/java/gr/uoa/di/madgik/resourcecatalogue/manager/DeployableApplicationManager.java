@@ -22,8 +22,6 @@ import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
-import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.DeployableApplicationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
@@ -41,9 +39,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
 
 @org.springframework.stereotype.Service("deployableApplicationManager")
 public class DeployableApplicationManager extends ResourceCatalogueGenericManager<DeployableApplicationBundle>
@@ -187,23 +182,6 @@ public class DeployableApplicationManager extends ResourceCatalogueGenericManage
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<DeployableApplicationBundle> getByIds(Authentication auth, String... ids) {
-        List<DeployableApplicationBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
-
     @Override
     public Bundle getTemplate(String providerId, Authentication auth) {
         return TemplateOnboardingUtils.getTemplate(providerId, auth, this, vocabularyService);
@@ -22,8 +22,6 @@ import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
-import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.InteroperabilityRecordBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Vocabulary;
@@ -39,9 +37,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
 
 @org.springframework.stereotype.Service("interoperabilityRecordManager")
 public class InteroperabilityRecordManager extends ResourceCatalogueGenericManager<InteroperabilityRecordBundle>
@@ -149,23 +145,6 @@ public class InteroperabilityRecordManager extends ResourceCatalogueGenericManag
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<InteroperabilityRecordBundle> getByIds(Authentication auth, String... ids) {
-        List<InteroperabilityRecordBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
-
     //FIXME: find a better way to get EOSC Monitoring IG - name is not unique
     public InteroperabilityRecordBundle getEOSCMonitoringGuideline() {
         FacetFilter ff = new FacetFilter();
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.domain.Paging;
+import gr.uoa.di.madgik.registry.service.GenericResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Loads the bundles of a {@link KeysetPager} page of ids, keeping the order of the page.
+ */
+final class KeysetPageLoader {
+
+    private KeysetPageLoader() {
+    }
+
+    /**
+     * @param published whether to load the public or the internal copies of the resources, which share the
+     *                  same index
+     */
+    static <T extends Bundle> KeysetPager.Page<T> load(GenericResourceService genericResourceService,
+                                                       String resourceType,
+                                                       KeysetPager.Page<String> page,
+                                                       boolean published) {
+        if (page.results().isEmpty()) {
+            return new KeysetPager.Page<>(List.of(), page.next());
+        }
+        FacetFilter byId = new FacetFilter();
+        byId.setResourceType(resourceType);
+        byId.setQuantity(page.results().size());
+        byId.addFilter("resource_internal_id", page.results());
+        byId.addFilter("published", published);
+        Paging<T> found = genericResourceService.getResults(byId);
+        Map<String, T> loaded = new HashMap<>();
+        for (T bundle : found.getResults()) {
+            loaded.put(bundle.getId(), bundle);
+        }
+        List<T> resources = page.results().stream().map(loaded::get).filter(Objects::nonNull).toList();
+        return new KeysetPager.Page<>(resources, page.next());
+    }
+}
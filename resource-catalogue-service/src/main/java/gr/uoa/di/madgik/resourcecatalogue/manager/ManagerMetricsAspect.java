@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the add, update, delete, get and getAll operations of the registry and public managers as
+ * {@code catalogue.manager} observations, tagged by resource type and operation.
+ * <p>
+ * It runs outside every other aspect, so a timing includes the work of the aspect hooks of the operation, which are
+ * timed on their own as {@code catalogue.advice}.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ManagerMetricsAspect {
+
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public ManagerMetricsAspect(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Pointcut("execution(public * gr.uoa.di.madgik.resourcecatalogue.manager.ResourceCatalogueGenericManager+.*(..))" +
+            " || execution(public * gr.uoa.di.madgik.resourcecatalogue.manager.AbstractPublicResourceManager+.*(..))")
+    void managers() {
+    }
+
+    @Pointcut("execution(* add(..)) || execution(* update(..)) || execution(* delete(..))" +
+            " || execution(* get(..)) || execution(* getAll(..))")
+    void operations() {
+    }
+
+    @Around("managers() && operations()")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        Object target = pjp.getTarget();
+        String resourceType;
+        boolean published;
+        if (target instanceof ResourceCatalogueGenericManager<?> manager) {
+            resourceType = manager.getResourceTypeName();
+            published = false;
+        } else if (target instanceof AbstractPublicResourceManager<?> manager) {
+            resourceType = manager.getResourceTypeName();
+            published = true;
+        } else {
+            return pjp.proceed();
+        }
+        return Observation.createNotStarted("catalogue.manager",
+                        observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .lowCardinalityKeyValue("resource.type", resourceType)
+                .lowCardinalityKeyValue("operation", pjp.getSignature().getName())
+                .lowCardinalityKeyValue("public", String.valueOf(published))
+                .observeChecked(pjp::proceed);
+    }
+}
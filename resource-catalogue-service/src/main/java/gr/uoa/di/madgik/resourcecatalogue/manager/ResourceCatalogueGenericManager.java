@@ -14,7 +14,9 @@ import gr.uoa.di.madgik.resourcecatalogue.domain.Identifiers;
 import gr.uoa.di.madgik.resourcecatalogue.domain.LoggingInfo;
 import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
 import gr.uoa.di.madgik.resourcecatalogue.onboarding.WorkflowService;
+import gr.uoa.di.madgik.resourcecatalogue.service.AuditSampler;
 import gr.uoa.di.madgik.resourcecatalogue.service.IdCreator;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
 import gr.uoa.di.madgik.resourcecatalogue.service.ResourceCatalogueGenericService;
 import gr.uoa.di.madgik.resourcecatalogue.service.SecurityService;
 import gr.uoa.di.madgik.resourcecatalogue.service.VocabularyService;
@@ -28,10 +30,16 @@ import org.springframework.security.core.Authentication;
 
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 //TODO: resource-specific method -> inside corresponding manager/service
@@ -55,6 +63,12 @@ public abstract class ResourceCatalogueGenericManager<T extends Bundle> implemen
     @Autowired
     private NodeProperties nodeProperties;
 
+    @Autowired
+    private AuditSampler auditSampler;
+
+    @Autowired
+    private KeysetPager keysetPager;
+
     protected abstract String getResourceTypeName();
 
     protected ResourceCatalogueGenericManager(GenericResourceService genericResourceService,
@@ -143,6 +157,42 @@ public abstract class ResourceCatalogueGenericManager<T extends Bundle> implemen
         return bundle;
     }
 
+    /**
+     * Resolves the given ids with a single search, keeping their order. Ids that do not match any
+     * resource are left out.
+     */
+    public List<T> getByIds(Authentication auth, String... ids) {
+        if (ids == null || ids.length == 0) {
+            return new ArrayList<>();
+        }
+        Set<String> distinctIds = new LinkedHashSet<>(Arrays.asList(ids));
+        FacetFilter ff = new FacetFilter();
+        ff.setResourceType(getResourceTypeName());
+        ff.setQuantity(distinctIds.size());
+        ff.addFilter("resource_internal_id", new ArrayList<>(distinctIds));
+        ff.addFilter("published", false);
+        Paging<T> paging = genericResourceService.getResults(ff);
+
+        Map<String, T> byId = new HashMap<>();
+        for (T bundle : paging.getResults()) {
+            byId.put(bundle.getId(), bundle);
+        }
+        List<T> resources = new ArrayList<>(ids.length);
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            T bundle = byId.get(id);
+            if (bundle != null) {
+                resources.add(bundle);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            logger.debug("Could not find '{}' resources with ids: {}", getResourceTypeName(), missing);
+        }
+        return resources;
+    }
+
     @Override
     public Paging<T> getMyProviders(FacetFilter ff, Authentication auth, String resourceType) {
         ff.setResourceType(resourceType);
@@ -218,20 +268,32 @@ public abstract class ResourceCatalogueGenericManager<T extends Bundle> implemen
     @Override
     public Paging<T> getAll(FacetFilter ff, Authentication auth) {
         ff.setResourceType(getResourceTypeName());
+        addVisibilityFilters(ff, auth);
+        return getAll(ff);
+    }
+
+    @Override
+    public KeysetPager.Page<T> getAll(FacetFilter ff, String cursor, Authentication auth) {
+        ff.setResourceType(getResourceTypeName());
+        addVisibilityFilters(ff, auth);
+        KeysetPager.Page<String> page = keysetPager.page(ff, cursor);
+        return KeysetPageLoader.load(genericResourceService, getResourceTypeName(), page, false);
+    }
+
+    private void addVisibilityFilters(FacetFilter ff, Authentication auth) {
         boolean authenticated = auth != null && auth.isAuthenticated();
         if (authenticated) {
             if (securityService.hasPortalAdminRole(auth)) {
-                return getAll(ff);
+                return;
             }
             if (securityService.hasRole(auth, "ROLE_PROVIDER")) {
                 //TODO: this works only for old Catalogues, Providers. How to proceed
 //                ff.addFilter("users", AuthenticationInfo.getEmail(auth).toLowerCase());
-                return getAll(ff);
+                return;
             }
         }
         ff.addFilter("status", "approved");
         ff.addFilter("active", true);
-        return getAll(ff);
     }
 
     @Override
@@ -249,6 +311,9 @@ public abstract class ResourceCatalogueGenericManager<T extends Bundle> implemen
         createIdentifiers(bundle);
         setNodePid(bundle);
         T ret = genericResourceService.add(getResourceTypeName(), bundle);
+        if (workflowService.isAsync()) {
+            return startOnboarding(ret, auth);
+        }
         try {
             ret = workflowService.onboard(getResourceTypeName(), ret, auth);
             ret = genericResourceService.update(getResourceTypeName(), ret); // adds logging info - possibly replace with generic update
@@ -261,6 +326,22 @@ public abstract class ResourceCatalogueGenericManager<T extends Bundle> implemen
         return ret;
     }
 
+    /**
+     * Stores the resource as pending and starts its onboarding workflow without waiting for it.
+     * The workflow stores the outcome when it completes, and the steps that follow an approved addition are run
+     * on the {@link gr.uoa.di.madgik.resourcecatalogue.events.OnboardingCompletedEvent} it publishes.
+     */
+    private T startOnboarding(T bundle, Authentication auth) {
+        bundle.markOnboard("pending", false, UserInfo.of(auth), "Onboarding in progress.");
+        T ret = genericResourceService.update(getResourceTypeName(), bundle);
+        try {
+            workflowService.startOnboarding(getResourceTypeName(), ret, auth);
+        } catch (IllegalStateException e) {
+            logger.warn(e.getMessage());
+        }
+        return ret;
+    }
+
     @Override
     public T update(T bundle, Authentication auth) {
         if (!hasChanged(bundle)) {
@@ -310,46 +391,28 @@ public abstract class ResourceCatalogueGenericManager<T extends Bundle> implemen
 
     @Override
     public Paging<T> getRandomResourcesForAuditing(int quantity, int auditingInterval, Authentication auth) {
+        Instant auditedBefore = ZonedDateTime.now(ZoneId.systemDefault())
+                .minusMonths(auditingInterval)
+                .toInstant();
+        List<String> ids = auditSampler.sample(getResourceTypeName(), quantity, auditedBefore);
+        if (ids.isEmpty()) {
+            return new Paging<>();
+        }
+
         FacetFilter ff = new FacetFilter();
         ff.setResourceType(getResourceTypeName());
-        ff.setQuantity(10000);
-        ff.addFilter("status", "approved");
+        ff.setQuantity(ids.size());
+        ff.addFilter("resource_internal_id", ids);
         ff.addFilter("published", false);
-        ff.addFilter("draft", false);
-
         Paging<T> resourcesPaging = getAll(ff, auth);
-        List<T> resourcesToBeAudited = new ArrayList<>();
-
-        long todayEpochMillis = System.currentTimeMillis();
-        long intervalEpochSeconds = Instant.ofEpochMilli(todayEpochMillis)
-                .atZone(ZoneId.systemDefault())
-                .minusMonths(auditingInterval)
-                .toEpochSecond();
-
-        for (T bundle : resourcesPaging.getResults()) {
-            LoggingInfo auditInfo = bundle.getLatestAuditInfo();
-            if (auditInfo == null) {
-                // Include providers that have never been audited
-                resourcesToBeAudited.add(bundle);
-            } else {
-                try {
-                    long auditEpochSeconds = Long.parseLong(auditInfo.getDate());
-                    if (auditEpochSeconds < intervalEpochSeconds) {
-                        // Include providers that were last audited before the threshold
-                        resourcesToBeAudited.add(bundle);
-                    }
-                } catch (NumberFormatException ignore) {
-                }
-            }
-        }
-
-        // Shuffle the list randomly
-        Collections.shuffle(resourcesToBeAudited);
 
-        // Limit the list to the requested quantity
-        if (resourcesToBeAudited.size() > quantity) {
-            resourcesToBeAudited = resourcesToBeAudited.subList(0, quantity);
+        // keep the random order of the sample
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
         }
+        List<T> resourcesToBeAudited = new ArrayList<>(resourcesPaging.getResults());
+        resourcesToBeAudited.sort(Comparator.comparingInt((T bundle) -> positions.getOrDefault(bundle.getId(), ids.size())));
 
         return new Paging<>(resourcesToBeAudited.size(), 0, resourcesToBeAudited.size(), resourcesToBeAudited,
                 resourcesPaging.getFacets());
@@ -22,7 +22,6 @@ import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
 import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
 import gr.uoa.di.madgik.resourcecatalogue.onboarding.WorkflowService;
@@ -37,10 +36,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
-
 @org.springframework.stereotype.Service("serviceManager")
 public class ServiceManager extends ResourceCatalogueGenericManager<ServiceBundle> implements ServiceService {
 
@@ -189,23 +184,6 @@ public class ServiceManager extends ResourceCatalogueGenericManager<ServiceBundl
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<ServiceBundle> getByIds(Authentication auth, String... ids) {
-        List<ServiceBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
-
     @Override
     public Bundle getTemplate(String providerId, Authentication auth) {
         return TemplateOnboardingUtils.getTemplate(providerId, auth, this, vocabularyService);
@@ -22,8 +22,6 @@ import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.registry.domain.Paging;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
-import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
-import gr.uoa.di.madgik.registry.service.ServiceException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.TrainingResourceBundle;
@@ -41,9 +39,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Objects;
 
 @org.springframework.stereotype.Service("trainingResourceManager")
 public class TrainingResourceManager extends ResourceCatalogueGenericManager<TrainingResourceBundle> implements TrainingResourceService {
@@ -190,23 +185,6 @@ public class TrainingResourceManager extends ResourceCatalogueGenericManager<Tra
         return getMyResources(filter, auth);
     }
 
-    @Override
-    public List<TrainingResourceBundle> getByIds(Authentication auth, String... ids) {
-        List<TrainingResourceBundle> resources;
-        resources = Arrays.stream(ids)
-                .map(id ->
-                {
-                    try {
-                        return get(id);
-                    } catch (ServiceException | ResourceNotFoundException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
-        return resources;
-    }
-
     @Override
     public Bundle getTemplate(String providerId, Authentication auth) {
         return TemplateOnboardingUtils.getTemplate(providerId, auth, this, vocabularyService);
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.manager;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Vocabulary;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Immutable snapshot of all vocabularies, indexed by id, by type and by parent.
+ * The indexed vocabularies are shared by all readers and must not be modified; hand out copies instead.
+ * Lists are kept sorted by name, as returned by the {@link gr.uoa.di.madgik.resourcecatalogue.service.VocabularyService}.
+ */
+public final class VocabularyIndex {
+
+    private static final Comparator<Vocabulary> BY_NAME =
+            Comparator.comparing(Vocabulary::getName, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<String, Vocabulary> byId;
+    private final Map<String, List<Vocabulary>> byType;
+    private final Map<String, List<Vocabulary>> byParent;
+
+    private VocabularyIndex(Map<String, Vocabulary> byId,
+                            Map<String, List<Vocabulary>> byType,
+                            Map<String, List<Vocabulary>> byParent) {
+        this.byId = byId;
+        this.byType = byType;
+        this.byParent = byParent;
+    }
+
+    public static VocabularyIndex of(Collection<Vocabulary> vocabularies) {
+        Map<String, Vocabulary> byId = new HashMap<>();
+        Map<String, List<Vocabulary>> byType = new HashMap<>();
+        Map<String, List<Vocabulary>> byParent = new HashMap<>();
+        for (Vocabulary vocabulary : vocabularies) {
+            if (vocabulary == null || vocabulary.getId() == null) {
+                continue;
+            }
+            byId.put(vocabulary.getId(), vocabulary);
+            if (vocabulary.getType() != null) {
+                byType.computeIfAbsent(vocabulary.getType(), k -> new ArrayList<>()).add(vocabulary);
+            }
+            if (vocabulary.getParentId() != null) {
+                byParent.computeIfAbsent(vocabulary.getParentId(), k -> new ArrayList<>()).add(vocabulary);
+            }
+        }
+        byType.replaceAll((type, list) -> sorted(list));
+        byParent.replaceAll((parent, list) -> sorted(list));
+        return new VocabularyIndex(Map.copyOf(byId), Map.copyOf(byType), Map.copyOf(byParent));
+    }
+
+    public Vocabulary get(String id) {
+        return id == null ? null : byId.get(id);
+    }
+
+    public List<Vocabulary> getByType(String type) {
+        return byType.getOrDefault(type, List.of());
+    }
+
+    public List<Vocabulary> getChildren(String parentId) {
+        return byParent.getOrDefault(parentId, List.of());
+    }
+
+    public Map<String, List<Vocabulary>> getAllByType() {
+        return byType;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private static List<Vocabulary> sorted(List<Vocabulary> list) {
+        list.sort(BY_NAME);
+        return List.copyOf(list);
+    }
+
+    /**
+     * Lazily (re)builds the index from the given loader. Concurrent callers share a single load, so an
+     * invalidation does not cause every reader to fetch all vocabularies. An index loaded while an invalidation
+     * took place is handed to the callers that requested it but is not kept, so a stale snapshot never outlives
+     * an update.
+     */
+    public static final class Holder {
+
+        private final Supplier<Collection<Vocabulary>> loader;
+        private volatile VocabularyIndex index;
+        private long version;
+        private CompletableFuture<VocabularyIndex> loading;
+
+        public Holder(Supplier<Collection<Vocabulary>> loader) {
+            this.loader = loader;
+        }
+
+        public VocabularyIndex get() {
+            VocabularyIndex current = index;
+            if (current != null) {
+                return current;
+            }
+            CompletableFuture<VocabularyIndex> future;
+            long loadedVersion;
+            boolean leader;
+            synchronized (this) {
+                if (index != null) {
+                    return index;
+                }
+                leader = loading == null;
+                if (leader) {
+                    loading = new CompletableFuture<>();
+                }
+                future = loading;
+                loadedVersion = version;
+            }
+            if (leader) {
+                load(future, loadedVersion);
+            }
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        private void load(CompletableFuture<VocabularyIndex> future, long loadedVersion) {
+            try {
+                VocabularyIndex loaded = VocabularyIndex.of(loader.get());
+                synchronized (this) {
+                    if (version == loadedVersion) {
+                        index = loaded;
+                    }
+                    if (loading == future) {
+                        loading = null;
+                    }
+                }
+                future.complete(loaded);
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    if (loading == future) {
+                        loading = null;
+                    }
+                }
+                future.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Drops the current index. A load already in progress is not shared with later callers, which start
+         * a new one.
+         */
+        public synchronized void invalidate() {
+            version++;
+            index = null;
+            loading = null;
+        }
+    }
+}
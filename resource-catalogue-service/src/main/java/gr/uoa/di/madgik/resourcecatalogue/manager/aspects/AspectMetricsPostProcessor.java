@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.manager.aspects;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aspectj.lang.annotation.After;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.AfterThrowing;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Times every hook of the aspects of this package as a {@code catalogue.advice} observation, tagged by aspect and
+ * hook.
+ * <p>
+ * Spring AOP does not advise aspects, so the aspect beans are proxied here instead. The advice methods are invoked
+ * on the aspect bean, hence through this proxy, and any {@code @Async} hook is timed in the thread that runs it.
+ */
+@Component
+public class AspectMetricsPostProcessor extends AbstractAdvisingBeanPostProcessor {
+
+    private static final List<Class<? extends Annotation>> HOOKS =
+            List.of(Before.class, After.class, AfterReturning.class, AfterThrowing.class, Around.class);
+
+    public AspectMetricsPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        setProxyTargetClass(true);
+        MethodInterceptor interceptor = invocation -> Observation.createNotStarted("catalogue.advice",
+                        observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                .lowCardinalityKeyValue("advice", invocation.getMethod().getDeclaringClass().getSimpleName())
+                .lowCardinalityKeyValue("hook", invocation.getMethod().getName())
+                .observeChecked(invocation::proceed);
+        this.advisor = new DefaultPointcutAdvisor(new HookPointcut(), interceptor);
+    }
+
+    private static class HookPointcut extends StaticMethodMatcherPointcut {
+
+        HookPointcut() {
+            setClassFilter(type -> type.isAnnotationPresent(Aspect.class)
+                    && type.getPackageName().equals(AspectMetricsPostProcessor.class.getPackageName()));
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return HOOKS.stream().anyMatch(method::isAnnotationPresent);
+        }
+    }
+}
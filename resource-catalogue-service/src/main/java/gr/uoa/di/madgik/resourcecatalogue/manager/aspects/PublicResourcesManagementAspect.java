@@ -19,6 +19,7 @@ package gr.uoa.di.madgik.resourcecatalogue.manager.aspects;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
+import gr.uoa.di.madgik.resourcecatalogue.events.OnboardingCompletedEvent;
 import gr.uoa.di.madgik.resourcecatalogue.manager.*;
 import gr.uoa.di.madgik.resourcecatalogue.service.PublicResourceService;
 import gr.uoa.di.madgik.resourcecatalogue.utils.ObjectUtils;
@@ -31,6 +32,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -77,6 +79,30 @@ public class PublicResourcesManagementAspect {
         this.publicInteroperabilityRecordService = publicInteroperabilityRecordService;
     }
 
+    //region Asynchronous onboarding
+
+    /**
+     * Adds the public instance of a resource whose onboarding completed after it was added, which the
+     * {@code add} advices below could not do as they only saw it pending.
+     */
+    @Async
+    @EventListener
+    public void addPublicResource(OnboardingCompletedEvent event) {
+        switch (event.getResource()) {
+            case OrganisationBundle bundle -> addPublicProvider(bundle);
+            case ServiceBundle service -> addPublicService(service);
+            case CatalogueBundle catalogue -> addPublicCatalogue(catalogue);
+            case DatasourceBundle datasource -> addPublicDatasource(datasource);
+            case TrainingResourceBundle training -> addPublicTrainingResource(training);
+            case InteroperabilityRecordBundle guideline -> addPublicGuideline(guideline);
+            case DeployableApplicationBundle deployableApplication -> addPublicDeployableApplication(deployableApplication);
+            case AdapterBundle adapter -> addPublicAdapter(adapter);
+            default -> {
+            }
+        }
+    }
+    //endregion
+
     //region Public Provider
     @Async
     @AfterReturning(pointcut = "execution(* gr.uoa.di.madgik.resourcecatalogue.manager.OrganisationManager.add(..))" +
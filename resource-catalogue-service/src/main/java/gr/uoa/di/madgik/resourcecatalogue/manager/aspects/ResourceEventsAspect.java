@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.manager.aspects;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Identifiable;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes a {@link ResourceChangeEvent} for every successful write on the registry, so that in-memory
+ * indexes and caches can be kept current without reloading whole resource types.
+ */
+@Aspect
+@Component
+public class ResourceEventsAspect {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResourceEventsAspect.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ResourceEventsAspect(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @AfterReturning(pointcut = "execution(* gr.uoa.di.madgik.registry.service.GenericResourceService.add(..))" +
+            " && args(resourceTypeName, ..)",
+            returning = "resource", argNames = "resourceTypeName,resource")
+    public void afterAdd(String resourceTypeName, Object resource) {
+        publish(resourceTypeName, ResourceChangeEvent.Action.CREATE, idOf(resource), resource);
+    }
+
+    @AfterReturning(pointcut = "execution(* gr.uoa.di.madgik.registry.service.GenericResourceService.update(..))" +
+            " && args(resourceTypeName, ..)",
+            returning = "resource", argNames = "resourceTypeName,resource")
+    public void afterUpdate(String resourceTypeName, Object resource) {
+        publish(resourceTypeName, ResourceChangeEvent.Action.UPDATE, idOf(resource), resource);
+    }
+
+    @AfterReturning(pointcut = "execution(* gr.uoa.di.madgik.registry.service.GenericResourceService.delete(..))" +
+            " && args(resourceTypeName, id)", argNames = "resourceTypeName,id")
+    public void afterDelete(String resourceTypeName, String id) {
+        publish(resourceTypeName, ResourceChangeEvent.Action.DELETE, id, null);
+    }
+
+    private void publish(String resourceTypeName, ResourceChangeEvent.Action action, String id, Object resource) {
+        try {
+            eventPublisher.publishEvent(new ResourceChangeEvent(this, resourceTypeName, action, id, resource));
+        } catch (RuntimeException e) {
+            // listeners must never roll back a write that has already been persisted
+            logger.warn("Failed to handle {} event for '{}' with id '{}'", action, resourceTypeName, id, e);
+        }
+    }
+
+    private static String idOf(Object resource) {
+        if (resource instanceof Bundle bundle) {
+            return bundle.getId();
+        }
+        if (resource instanceof Identifiable identifiable) {
+            return identifiable.getId();
+        }
+        return null;
+    }
+}
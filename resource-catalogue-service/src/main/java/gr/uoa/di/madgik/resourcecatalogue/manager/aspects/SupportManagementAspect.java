@@ -19,6 +19,7 @@ package gr.uoa.di.madgik.resourcecatalogue.manager.aspects;
 import tools.jackson.databind.JsonNode;
 import gr.uoa.di.madgik.resourcecatalogue.controllers.registry.sqaaas.SqaaasAssessmentService;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
+import gr.uoa.di.madgik.resourcecatalogue.events.OnboardingCompletedEvent;
 import gr.uoa.di.madgik.resourcecatalogue.service.AdapterService;
 import gr.uoa.di.madgik.resourcecatalogue.service.InteroperabilityRecordService;
 import gr.uoa.di.madgik.resourcecatalogue.service.ResourceInteroperabilityRecordService;
@@ -28,6 +29,7 @@ import org.aspectj.lang.annotation.Aspect;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -59,6 +61,25 @@ public class SupportManagementAspect {
         this.sqaaasAssessmentService = sqaaasAssessmentService;
     }
 
+    //region Asynchronous onboarding
+
+    /**
+     * Runs the support steps of a resource whose onboarding completed after it was added, which the
+     * {@code add} advices below could not do as they only saw it pending.
+     */
+    @Async
+    @EventListener
+    public void supportOnboardedResource(OnboardingCompletedEvent event) {
+        switch (event.getResource()) {
+            case ServiceBundle service -> assignEoscMonitoringGuidelineToService(service);
+            case DatasourceBundle datasource -> assignEoscMonitoringGuidelineToDatasource(datasource);
+            case AdapterBundle adapter -> performSqaAssessment(adapter);
+            default -> {
+            }
+        }
+    }
+    //endregion
+
     //region EOSC monitoring assignment
     //TODO: Should EOSC monitoring get assigned to Catalogues too?
 
@@ -22,21 +22,26 @@ import gr.uoa.di.madgik.registry.exception.ResourceAlreadyExistsException;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Vocabulary;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
 import gr.uoa.di.madgik.resourcecatalogue.manager.ResourceManager;
+import gr.uoa.di.madgik.resourcecatalogue.manager.VocabularyIndex;
 import gr.uoa.di.madgik.resourcecatalogue.service.VocabularyService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class VocabularyManager extends ResourceManager<Vocabulary> implements VocabularyService {
 
     private static final Logger logger = LoggerFactory.getLogger(VocabularyManager.class);
 
+    private final VocabularyIndex.Holder index = new VocabularyIndex.Holder(this::loadAll);
+
     public VocabularyManager() {
         super();
     }
@@ -46,6 +51,12 @@ public class VocabularyManager extends ResourceManager<Vocabulary> implements Vo
         return "vocabulary";
     }
 
+    @Override
+    public Vocabulary get(String id) {
+        Vocabulary vocabulary = index.get().get(id);
+        return vocabulary != null ? copy(vocabulary) : super.get(id);
+    }
+
     @Override
     public Vocabulary getOrElseThrow(String id) {
         Vocabulary vocabulary = null;
@@ -78,18 +89,7 @@ public class VocabularyManager extends ResourceManager<Vocabulary> implements Vo
 
     @Override
     public List<Vocabulary> getChildren(String parentId) {
-        List<Vocabulary> children = new ArrayList<>();
-        FacetFilter ff = new FacetFilter();
-        ff.setResourceType(getResourceTypeName());
-        ff.setQuantity(Integer.MAX_VALUE);
-        List<Vocabulary> allVocs = getAll(ff).getResults();
-        for (Vocabulary vocabulary : allVocs) {
-            if (parentId.equals(vocabulary.getParentId())) {
-                children.add(vocabulary);
-            }
-        }
-        children.sort(Comparator.comparing(Vocabulary::getName));
-        return children;
+        return copy(index.get().getChildren(parentId));
     }
 
     @Override
@@ -99,32 +99,16 @@ public class VocabularyManager extends ResourceManager<Vocabulary> implements Vo
 
     @Override
     public Map<Vocabulary.Type, List<Vocabulary>> getAllVocabulariesByType() {
-        FacetFilter ff = new FacetFilter();
-        ff.setResourceType(getResourceTypeName());
-        ff.setQuantity(Integer.MAX_VALUE);
-        Paging<Vocabulary> allVocs = getAll(ff);
-        return allVocs.getResults()
-                .parallelStream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(
-                        value -> Vocabulary.Type.fromString(value.getType()),
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                list -> list.stream()
-                                        .sorted(Comparator.comparing(Vocabulary::getName))
-                                        .collect(Collectors.toList())
-                        )
-                ));
+        Map<Vocabulary.Type, List<Vocabulary>> allVocabularies = new HashMap<>();
+        for (Map.Entry<String, List<Vocabulary>> entry : index.get().getAllByType().entrySet()) {
+            allVocabularies.put(Vocabulary.Type.fromString(entry.getKey()), copy(entry.getValue()));
+        }
+        return allVocabularies;
     }
 
     @Override
     public List<Vocabulary> getByType(Vocabulary.Type type) {
-        FacetFilter ff = new FacetFilter();
-        ff.setResourceType(getResourceTypeName());
-        ff.setQuantity(Integer.MAX_VALUE);
-        ff.addFilter("type", type.getKey());
-        List<Vocabulary> vocList = getAll(ff, null).getResults();
-        return vocList.stream().sorted(Comparator.comparing(Vocabulary::getName)).collect(Collectors.toList());
+        return copy(index.get().getByType(type.getKey()));
     }
 
     @Override
@@ -139,6 +123,45 @@ public class VocabularyManager extends ResourceManager<Vocabulary> implements Vo
         }
     }
 
+    @EventListener
+    public void onResourceChange(ResourceChangeEvent event) {
+        if (event.isOfType(getResourceTypeName())) {
+            index.invalidate();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catalogue.vocabularies.refresh-rate:3600000}",
+            fixedDelayString = "${catalogue.vocabularies.refresh-rate:3600000}")
+    public void refreshVocabularies() {
+        index.invalidate();
+    }
+
+    /**
+     * The indexed vocabularies are shared, so callers always get copies they are free to modify.
+     */
+    private static Vocabulary copy(Vocabulary vocabulary) {
+        return new Vocabulary(vocabulary.getId(), vocabulary.getName(), vocabulary.getDescription(),
+                vocabulary.getParentId(), vocabulary.getType(),
+                vocabulary.getExtras() != null ? new HashMap<>(vocabulary.getExtras()) : null);
+    }
+
+    private static List<Vocabulary> copy(List<Vocabulary> vocabularies) {
+        List<Vocabulary> copies = new ArrayList<>(vocabularies.size());
+        for (Vocabulary vocabulary : vocabularies) {
+            copies.add(copy(vocabulary));
+        }
+        return copies;
+    }
+
+    private List<Vocabulary> loadAll() {
+        FacetFilter ff = new FacetFilter();
+        ff.setResourceType(getResourceTypeName());
+        ff.setQuantity(Integer.MAX_VALUE);
+        List<Vocabulary> vocabularies = getAll(ff).getResults();
+        logger.debug("Loaded {} vocabularies", vocabularies.size());
+        return vocabularies;
+    }
+
     @Override
     public void deleteAll(Authentication auth) {
         FacetFilter ff = new FacetFilter();
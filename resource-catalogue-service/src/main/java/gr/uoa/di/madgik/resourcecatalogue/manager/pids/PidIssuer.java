@@ -21,6 +21,7 @@ import gr.uoa.di.madgik.resourcecatalogue.config.properties.ResourceProperties;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import jakarta.annotation.PreDestroy;
 import org.bouncycastle.asn1.pkcs.PrivateKeyInfo;
 import org.bouncycastle.openssl.PEMKeyPair;
 import org.bouncycastle.openssl.PEMParser;
@@ -35,21 +36,30 @@ import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLParameters;
 import java.io.FileInputStream;
 import java.io.FileReader;
+import java.io.IOException;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.security.KeyPair;
 import java.security.PrivateKey;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class PidIssuer {
@@ -58,10 +68,21 @@ public class PidIssuer {
 
     private final CatalogueProperties properties;
 
+    /**
+     * One pooled client per configured PID Issuer, rebuilt only when its key or certificate files change.
+     */
+    private final Map<PidIssuerConfig, PidClient> clients = new ConcurrentHashMap<>();
+
     public PidIssuer(CatalogueProperties properties) {
         this.properties = properties;
     }
 
+    @PreDestroy
+    void disposeClients() {
+        clients.values().forEach(PidClient::dispose);
+        clients.clear();
+    }
+
     public void postPID(String pid, List<String> customResolveEndpoints) {
         sendPIDRequest(pid, customResolveEndpoints, false);
     }
@@ -74,7 +95,7 @@ public class PidIssuer {
         String prefix = pid.split("/")[0];
         ResourceProperties resourceProperties = properties.getResourcePropertiesFromPrefix(prefix);
         PidIssuerConfig config = resourceProperties.getPidIssuer();
-        WebClient webClient = createWebClient(config);
+        WebClient webClient = getWebClient(config);
         HttpHeaders headers = createHeaders(config);
         if (!delete) {
             String payload;
@@ -89,17 +110,69 @@ public class PidIssuer {
         }
     }
 
-    private WebClient createWebClient(PidIssuerConfig config) {
+    private WebClient getWebClient(PidIssuerConfig config) {
+        List<FileTime> fileStamps = getFileStamps(config);
+        PidClient client = clients.get(config);
+        if (client != null && client.fileStamps().equals(fileStamps)) {
+            return client.webClient();
+        }
+        return clients.compute(config, (key, existing) -> {
+            if (existing != null && existing.fileStamps().equals(fileStamps)) {
+                return existing;
+            }
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("pid-issuer")
+                    .maxIdleTime(Duration.ofSeconds(30))
+                    .build();
+            PidClient created;
+            try {
+                created = new PidClient(createWebClient(key, connectionProvider), fileStamps, connectionProvider);
+            } catch (RuntimeException e) {
+                connectionProvider.dispose();
+                throw e;
+            }
+            if (existing != null) {
+                logger.info("PID Issuer key or certificate changed, rebuilt client for [{}]", key.getUrl());
+                existing.dispose();
+            }
+            return created;
+        }).webClient();
+    }
+
+    /**
+     * Returns the last modification times of the key and certificate files of the given configuration,
+     * used to detect when the client needs to be rebuilt.
+     */
+    private static List<FileTime> getFileStamps(PidIssuerConfig config) {
+        List<FileTime> fileStamps = new ArrayList<>();
+        PidIssuerConfig.IssuerCertificateAuthenticationConfig auth = config.getAuth();
+        if (auth != null) {
+            for (String file : new String[]{auth.getClientKey(), auth.getClientCert(), auth.getServerCert()}) {
+                if (file != null && !file.isBlank()) {
+                    try {
+                        fileStamps.add(Files.getLastModifiedTime(Path.of(file)));
+                    } catch (IOException e) {
+                        fileStamps.add(null);
+                    }
+                }
+            }
+        }
+        return fileStamps;
+    }
+
+    private WebClient createWebClient(PidIssuerConfig config, ConnectionProvider connectionProvider) {
         if (config.getAuth() != null) {
             if (config.getAuth().isSelfSignedCert()) {
-                return createSelfSignedWebClient(config.getAuth());
+                return createSelfSignedWebClient(config.getAuth(), connectionProvider);
             } else {
                 return createCertBasedWebClient(
                         config.getAuth().getClientCert(),
-                        config.getAuth().getClientKey());
+                        config.getAuth().getClientKey(),
+                        connectionProvider);
             }
         }
-        return WebClient.builder().build();
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .build();
     }
 
     /**
@@ -116,7 +189,8 @@ public class PidIssuer {
      * Hostname verification is disabled because self-signed certificates typically lack
      * valid Subject Alternative Names.
      */
-    private WebClient createSelfSignedWebClient(PidIssuerConfig.IssuerCertificateAuthenticationConfig auth) {
+    private WebClient createSelfSignedWebClient(PidIssuerConfig.IssuerCertificateAuthenticationConfig auth,
+                                                ConnectionProvider connectionProvider) {
         try {
             SslContextBuilder builder = SslContextBuilder.forClient();
 
@@ -139,7 +213,7 @@ public class PidIssuer {
             }
 
             SslContext sslContext = builder.build();
-            HttpClient httpClient = HttpClient.create()
+            HttpClient httpClient = HttpClient.create(connectionProvider)
                     .secure(spec -> spec
                             .sslContext(sslContext)
                             .handlerConfigurator(handler -> disableHostnameVerification(handler.engine())));
@@ -156,7 +230,7 @@ public class PidIssuer {
      * The server certificate is verified against the JVM default trust store, and hostname
      * verification is left enabled.
      */
-    private WebClient createCertBasedWebClient(String certPath, String keyPath) {
+    private WebClient createCertBasedWebClient(String certPath, String keyPath, ConnectionProvider connectionProvider) {
         try {
             PrivateKey privateKey = loadPrivateKey(keyPath);
             X509Certificate certificate = loadCertificate(certPath);
@@ -164,7 +238,7 @@ public class PidIssuer {
             SslContext sslContext = SslContextBuilder.forClient()
                     .keyManager(privateKey, certificate)
                     .build();
-            HttpClient httpClient = HttpClient.create()
+            HttpClient httpClient = HttpClient.create(connectionProvider)
                     .secure(spec -> spec.sslContext(sslContext));
             return WebClient.builder()
                     .clientConnector(new ReactorClientHttpConnector(httpClient))
@@ -314,6 +388,13 @@ public class PidIssuer {
         }
     }
 
+    private record PidClient(WebClient webClient, List<FileTime> fileStamps, ConnectionProvider connectionProvider) {
+
+        void dispose() {
+            connectionProvider.disposeLater().subscribe();
+        }
+    }
+
     // TODO: can be used in PidController to fetch the body
     public Map<String, Object> getResource(String pid) {
         PidServiceResponse response = getPidServiceResponse(pid);
@@ -323,12 +404,33 @@ public class PidIssuer {
         return null;
     }
 
+    /**
+     * Looks up a PID without reading the response body. The request runs on the pooled client of the PID Issuer,
+     * so many lookups can be in flight on the same connections.
+     *
+     * @param pid the PID
+     * @return the status returned by the PID Issuer
+     */
+    public Mono<HttpStatusCode> getPidStatus(String pid) {
+        String prefix = pid.split("/")[0];
+        PidIssuerConfig config = properties.getResourcePropertiesFromPrefix(prefix).getPidIssuer();
+
+        WebClient webClient = getWebClient(config);
+        HttpHeaders headers = createHeaders(config);
+
+        return webClient
+                .get()
+                .uri(URI.create(String.join("/", config.getUrl(), pid)))
+                .headers(h -> h.addAll(headers))
+                .exchangeToMono(response -> response.releaseBody().thenReturn(response.statusCode()));
+    }
+
     public PidServiceResponse getPidServiceResponse(String pid) {
         String prefix = pid.split("/")[0];
         ResourceProperties resourceProperties = properties.getResourcePropertiesFromPrefix(prefix);
         PidIssuerConfig config = resourceProperties.getPidIssuer();
 
-        WebClient webClient = createWebClient(config);
+        WebClient webClient = getWebClient(config);
         HttpHeaders headers = createHeaders(config);
 
         return webClient
@@ -27,9 +27,15 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class PidServiceRegistrationConsistency {
@@ -38,6 +44,10 @@ public class PidServiceRegistrationConsistency {
     private boolean pidServiceEnabled;
     @Value("${pid.service.consistency.enabled}")
     private boolean pidServiceConsistencyEnabled;
+    @Value("${pid.service.consistency.concurrency:8}")
+    private int concurrency;
+    @Value("${pid.service.consistency.reverify-after:7d}")
+    private Duration reverifyAfter;
 
     private static final Logger logger = LoggerFactory.getLogger(PidServiceRegistrationConsistency.class);
 
@@ -54,6 +64,11 @@ public class PidServiceRegistrationConsistency {
 
     private final SecurityService securityService;
 
+    /**
+     * PIDs found on the PID service, with the modification time of their resource at that point.
+     */
+    private final Map<String, Verification> verified = new ConcurrentHashMap<>();
+
     public PidServiceRegistrationConsistency(PidIssuer pidIssuer,
                                              PublicOrganisationService organisationService,
                                              PublicServiceService serviceService,
@@ -79,89 +94,64 @@ public class PidServiceRegistrationConsistency {
     @Scheduled(cron = "0 0 0 * * *")
 //    @Scheduled(initialDelay = 0, fixedRate = 6000)
     protected void postUnregisteredResourcesToPIDService() {
-        List<OrganisationBundle> allPublicOrganisations = organisationService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<ServiceBundle> allPublicServices = serviceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<CatalogueBundle> allPublicCatalogues = catalogueService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<DatasourceBundle> allPublicDatasources = datasourceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<TrainingResourceBundle> allPublicTR = trainingResourceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<DeployableApplicationBundle> allPublicDS = deployableApplicationService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<InteroperabilityRecordBundle> allPublicIG = interoperabilityRecordService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<AdapterBundle> allPublicAdapters = adapterService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-
-        if (pidServiceEnabled && pidServiceConsistencyEnabled) {
-            logger.info("PID Service registration consistency");
-            // check consistency for Providers
-            for (OrganisationBundle organisationBundle : allPublicOrganisations) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(organisationBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Provider with id {} to PID service", organisationBundle.getId());
-                    pidIssuer.postPID(organisationBundle.getId(), null);
-                }
-            }
-
-            // check consistency for Adapters
-            for (AdapterBundle adapterBundle : allPublicAdapters) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(adapterBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Adapter with id {} to PID service", adapterBundle.getId());
-                    pidIssuer.postPID(adapterBundle.getId(), null);
-                }
-            }
-
-            // check consistency for Services
-            for (ServiceBundle serviceBundle : allPublicServices) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(serviceBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Service with id {} to PID service", serviceBundle.getId());
-                    pidIssuer.postPID(serviceBundle.getId(), null);
-                }
-            }
-
-            // check consistency for Catalogues
-            for (CatalogueBundle catalogueBundle : allPublicCatalogues) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(catalogueBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Catalogue with id {} to PID service", catalogueBundle.getId());
-                    pidIssuer.postPID(catalogueBundle.getId(), null);
-                }
-            }
-
-            // check consistency for Datasources
-            for (DatasourceBundle datasourceBundle : allPublicDatasources) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(datasourceBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Datasource with id {} to PID service", datasourceBundle.getId());
-                    pidIssuer.postPID(datasourceBundle.getId(), null);
-                }
-            }
-
-            // check consistency for Training Resources
-            for (TrainingResourceBundle trainingResourceBundle : allPublicTR) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(trainingResourceBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Training Resource with id {} to PID service", trainingResourceBundle.getId());
-                    pidIssuer.postPID(trainingResourceBundle.getId(), null);
-                }
-            }
+        if (!pidServiceEnabled || !pidServiceConsistencyEnabled) {
+            return;
+        }
+        logger.info("PID Service registration consistency");
+        verify("Provider", organisationService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Adapter", adapterService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Service", serviceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Catalogue", catalogueService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Datasource", datasourceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Training Resource", trainingResourceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Deployable Application", deployableApplicationService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+        verify("Interoperability Record", interoperabilityRecordService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults());
+    }
 
-            // check consistency for Deployable Application
-            for (DeployableApplicationBundle deployableApplicationBundle : allPublicDS) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(deployableApplicationBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Deployable Application with id {} to PID service", deployableApplicationBundle.getId());
-                    pidIssuer.postPID(deployableApplicationBundle.getId(), null);
-                }
+    /**
+     * Looks up the PIDs of the given resources concurrently, at most {@code concurrency} at a time, and posts the
+     * ones the PID service does not know. Resources whose PID was found within {@code reverifyAfter} and that have
+     * not been modified since are skipped.
+     */
+    private void verify(String type, List<? extends Bundle> bundles) {
+        long now = System.currentTimeMillis();
+        List<Bundle> pending = new ArrayList<>();
+        for (Bundle bundle : bundles) {
+            Verification verification = verified.get(bundle.getId());
+            if (verification == null || now - verification.verifiedAt() >= reverifyAfter.toMillis()
+                    || !Objects.equals(verification.modifiedAt(), modifiedAt(bundle))) {
+                pending.add(bundle);
             }
+        }
 
-            // check consistency for Interoperability Records
-            for (InteroperabilityRecordBundle interoperabilityRecordBundle : allPublicIG) {
-                HttpStatusCode httpStatusCode = getResourceFromPidService(interoperabilityRecordBundle.getId());
-                if (httpStatusCode.value() == HttpStatus.NOT_FOUND.value()) {
-                    logger.info("Posting Interoperability Record with id {} to PID service", interoperabilityRecordBundle.getId());
-                    pidIssuer.postPID(interoperabilityRecordBundle.getId(), null);
-                }
+        List<Map.Entry<Bundle, HttpStatusCode>> statuses = Flux.fromIterable(pending)
+                .flatMap(bundle -> pidIssuer.getPidStatus(bundle.getId())
+                        .map(status -> Map.entry(bundle, status))
+                        .onErrorResume(e -> {
+                            logger.warn("Could not look up {} with id {} on the PID service: {}",
+                                    type, bundle.getId(), e.getMessage());
+                            return Mono.empty();
+                        }), concurrency)
+                .collectList()
+                .block();
+
+        int posted = 0;
+        for (Map.Entry<Bundle, HttpStatusCode> entry : statuses) {
+            Bundle bundle = entry.getKey();
+            if (entry.getValue().value() == HttpStatus.NOT_FOUND.value()) {
+                logger.info("Posting {} with id {} to PID service", type, bundle.getId());
+                pidIssuer.postPID(bundle.getId(), null);
+                verified.remove(bundle.getId());
+                posted++;
+            } else if (entry.getValue().is2xxSuccessful()) {
+                verified.put(bundle.getId(), new Verification(now, modifiedAt(bundle)));
             }
         }
+        logger.debug("Verified {} of {} {} PIDs, posted {}", pending.size(), bundles.size(), type, posted);
+    }
+
+    private static String modifiedAt(Bundle bundle) {
+        return bundle.getMetadata() != null ? bundle.getMetadata().getModifiedAt() : null;
     }
 
     protected FacetFilter createFacetFilter() {
@@ -170,8 +160,6 @@ public class PidServiceRegistrationConsistency {
         return ff;
     }
 
-    protected HttpStatusCode getResourceFromPidService(String pid) {
-        return Objects.requireNonNull(pidIssuer.getPidServiceResponse(pid).getStatusCode());
+    private record Verification(long verifiedAt, String modifiedAt) {
     }
-
-}
\ No newline at end of file
+}
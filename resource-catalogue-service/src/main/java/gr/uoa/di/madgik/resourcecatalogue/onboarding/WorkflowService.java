@@ -14,4 +14,19 @@ public interface WorkflowService {
     }
 
     public <T extends Bundle> T onboard(String resourceType, T bundle, Authentication authentication);
+
+    /**
+     * @return whether onboarding should be started with {@link #startOnboarding} instead of {@link #onboard}
+     */
+    default boolean isAsync() {
+        return false;
+    }
+
+    /**
+     * Starts the onboarding of an already stored resource without waiting for its outcome.
+     * The workflow stores the onboarded resource when it completes.
+     */
+    default <T extends Bundle> void startOnboarding(String resourceType, T bundle, Authentication authentication) {
+        onboard(resourceType, bundle, authentication);
+    }
 }
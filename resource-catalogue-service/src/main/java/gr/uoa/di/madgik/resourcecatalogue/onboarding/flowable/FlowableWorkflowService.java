@@ -5,12 +5,14 @@ import gr.uoa.di.madgik.resourcecatalogue.config.NodeProperties;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
 import gr.uoa.di.madgik.resourcecatalogue.onboarding.WorkflowService;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
@@ -30,15 +32,23 @@ public class FlowableWorkflowService implements WorkflowService {
     private final HistoryService historyService;
     private final WorkflowVariableMapper helper;
     private final String nodePid;
+    private final boolean async;
 
     public FlowableWorkflowService(RuntimeService runtimeService,
                                    HistoryService historyService,
                                    WorkflowVariableMapper helper,
-                                   NodeProperties nodeProperties) {
+                                   NodeProperties nodeProperties,
+                                   OnboardingCompletionListener completionListener,
+                                   @Value("${catalogue.onboarding.async:false}") boolean async) {
         this.runtimeService = runtimeService;
         this.historyService = historyService;
         this.helper = helper;
         this.nodePid = nodeProperties.getPid().getValue();
+        this.async = async;
+        if (async) {
+            runtimeService.addEventListener(completionListener, FlowableEngineEventType.PROCESS_COMPLETED,
+                    FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER);
+        }
     }
 
     public enum WorkflowStatus {
@@ -55,10 +65,7 @@ public class FlowableWorkflowService implements WorkflowService {
             bundle.markOnboard("pending", false, UserInfo.of(authentication), "Default onboarding.");
             return bundle;
         }
-        Map<String, Object> vars = new HashMap<>();
-        vars.put("resourceType", resourceType);
-        helper.putResourceBundle(vars, bundle);
-        helper.putUserInfo(vars, UserInfo.of(authentication));
+        Map<String, Object> vars = createVariables(resourceType, bundle, authentication);
 
         ProcessInstance process = runtimeService.startProcessInstanceByKey(bpmnProcess, vars);
 
@@ -80,6 +87,37 @@ public class FlowableWorkflowService implements WorkflowService {
         return bundle;
     }
 
+    @Override
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Starts the onboarding process without waiting for it. The process runs on the Flowable async executor,
+     * stores the onboarded resource itself and is reconciled by {@link OnboardingCompletionListener}.
+     */
+    @Override
+    public <T extends Bundle> void startOnboarding(String resourceType, T bundle, Authentication authentication) {
+        String bpmnProcess = getBpmnProcess(resourceType);
+        Map<String, Object> vars = createVariables(resourceType, bundle, authentication);
+        vars.put(OnboardingCompletionListener.ASYNC_ONBOARDING, true);
+
+        ProcessInstance process = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey(bpmnProcess)
+                .variables(vars)
+                .startAsync();
+        logger.info("Onboarding for resource with id '{}' started [process: {}]", bundle.getId(), process.getId());
+    }
+
+    private <T extends Bundle> Map<String, Object> createVariables(String resourceType, T bundle,
+                                                                   Authentication authentication) {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("resourceType", resourceType);
+        helper.putResourceBundle(vars, bundle);
+        helper.putUserInfo(vars, UserInfo.of(authentication));
+        return vars;
+    }
+
     private String getBpmnProcess(String resourceType) {
         return switch (resourceType) {
             case "organisation" -> "onboard-provider-flowable";
@@ -93,7 +131,7 @@ public class FlowableWorkflowService implements WorkflowService {
     }
 
     @SuppressWarnings("unchecked")
-    private WorkflowResult getWorkflowResult(Map<String, Object> vars) {
+    static WorkflowResult getWorkflowResult(Map<String, Object> vars) {
         if (!vars.containsKey("workflowResult")) {
             return new WorkflowResult(WorkflowStatus.SUCCESS, 200, "Success");
         }
@@ -0,0 +1,111 @@
+package gr.uoa.di.madgik.resourcecatalogue.onboarding.flowable;
+
+import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
+import gr.uoa.di.madgik.registry.service.GenericResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.events.OnboardingCompletedEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.flowable.engine.delegate.event.AbstractFlowableEngineEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reconciles the resources of onboarding processes started asynchronously, once their process ends.
+ * <p>
+ * On success the workflow has already stored the onboarded resource, and an {@link OnboardingCompletedEvent} is
+ * published for the steps that follow a synchronous addition (public copy, EOSC monitoring etc.). On failure,
+ * or when a job of the process has exhausted its retries, the resource is deleted, just like a synchronous
+ * onboarding does before reporting the failure to the caller.
+ */
+@Component
+public class OnboardingCompletionListener extends AbstractFlowableEngineEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(OnboardingCompletionListener.class);
+
+    static final String ASYNC_ONBOARDING = "asyncOnboarding";
+
+    private final WorkflowVariableMapper helper;
+    private final GenericResourceService genericResourceService;
+    private final RuntimeService runtimeService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public OnboardingCompletionListener(WorkflowVariableMapper helper,
+                                        GenericResourceService genericResourceService,
+                                        RuntimeService runtimeService,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.helper = helper;
+        this.genericResourceService = genericResourceService;
+        this.runtimeService = runtimeService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    protected void processCompleted(FlowableEngineEntityEvent event) {
+        if (!(event.getEntity() instanceof DelegateExecution execution)
+                || !Boolean.TRUE.equals(execution.getVariable(ASYNC_ONBOARDING))) {
+            return;
+        }
+        Map<String, Object> vars = execution.getVariables();
+        String resourceType = (String) vars.get("resourceType");
+        Bundle bundle = helper.getResourceBundle(vars);
+        FlowableWorkflowService.WorkflowResult result = FlowableWorkflowService.getWorkflowResult(vars);
+        if (result.status() == FlowableWorkflowService.WorkflowStatus.FAILURE) {
+            logger.warn("Onboarding for {} with id '{}' failed, deleting it. Message: {}",
+                    resourceType, bundle.getId(), result.message());
+            delete(resourceType, bundle.getId());
+            return;
+        }
+        logger.info("Onboarding for {} with id '{}' successful. Message: {}",
+                resourceType, bundle.getId(), result.message());
+        try {
+            eventPublisher.publishEvent(new OnboardingCompletedEvent(this, resourceType, bundle));
+        } catch (RuntimeException e) {
+            // the resource is onboarded regardless, so the process must still complete
+            logger.error("Could not complete the onboarding of {} with id '{}'", resourceType, bundle.getId(), e);
+        }
+    }
+
+    /**
+     * A job that failed on every retry leaves its process waiting forever, so its resource would stay pending.
+     * The dead letter job is kept for inspection.
+     */
+    @Override
+    protected void jobMovedToDeadLetter(FlowableEngineEntityEvent event) {
+        String processInstanceId = event.getProcessInstanceId();
+        if (processInstanceId == null
+                || !Boolean.TRUE.equals(runtimeService.getVariable(processInstanceId, ASYNC_ONBOARDING))) {
+            return;
+        }
+        Map<String, Object> vars = runtimeService.getVariables(processInstanceId);
+        String resourceType = (String) vars.get("resourceType");
+        Bundle bundle = helper.getResourceBundle(vars);
+        logger.warn("Onboarding for {} with id '{}' failed with no retries left [process: {}], deleting it.",
+                resourceType, bundle.getId(), processInstanceId);
+        delete(resourceType, bundle.getId());
+    }
+
+    /**
+     * Deletes the resource of a failed onboarding, which may have already been deleted by its owner.
+     */
+    private void delete(String resourceType, String id) {
+        try {
+            genericResourceService.delete(resourceType, id);
+        } catch (ResourceNotFoundException e) {
+            logger.debug("{} with id '{}' is already deleted", resourceType, id);
+        }
+    }
+
+    /**
+     * A failed reconciliation rolls back the completion of the process, so that its last job is retried.
+     */
+    @Override
+    public boolean isFailOnException() {
+        return true;
+    }
+}
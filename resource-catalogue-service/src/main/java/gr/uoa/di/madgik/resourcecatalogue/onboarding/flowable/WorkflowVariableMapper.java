@@ -4,13 +4,30 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
+import org.springframework.beans.BeanUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * Maps bundles and users to Flowable process variables and back.
+ * <p>
+ * A bundle is stored as a map of its fields, with the payload under {@code payload}, and the name of its class
+ * under {@code <name>_class}. The payload is never converted by Jackson; only the remaining fields of the bundle
+ * (metadata, logging info, status etc.) are. It is stored as is, and copied structurally when read back, so
+ * that the bundle returned does not share any map or list with the process variables.
+ */
 @Component
 public class WorkflowVariableMapper {
 
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
     private final ObjectMapper mapper;
 
     public WorkflowVariableMapper(ObjectMapper mapper) {
@@ -27,40 +44,54 @@ public class WorkflowVariableMapper {
 
     @SuppressWarnings("unchecked")
     public <T extends Bundle> T getResourceBundle(Map<String, Object> vars, String resourceName) {
-        String classKey = resourceName + "_class";
-        Map<String, Object> resource = (Map<String, Object>) vars.get(resourceName);
-        T bundle;
-        if (vars.containsKey(classKey)) {
-            Class<T> clazz = mapper.convertValue(vars.get(classKey), new TypeReference<>() {});
-            bundle = mapper.convertValue(resource, clazz);
-        } else {
-            bundle = mapper.convertValue(resource, new TypeReference<>() {});
-        }
-        bundle.setPayload(mapper.convertValue(resource.get("payload"), new TypeReference<>() {}));
+        Map<String, Object> fields = new HashMap<>((Map<String, Object>) vars.get(resourceName));
+        Object payload = fields.remove("payload");
+        Object className = vars.get(resourceName + "_class");
+        Class<?> clazz = className != null
+                ? ClassUtils.resolveClassName(className.toString(), getClass().getClassLoader())
+                : Bundle.class;
+        T bundle = (T) mapper.convertValue(fields, clazz.asSubclass(Bundle.class));
+        bundle.setPayload(Bundle.copyPayload((Map<String, Object>) payload));
         return bundle;
     }
 
-    @SuppressWarnings("unchecked")
     public <T extends Bundle> void putResourceBundle(Map<String, Object> vars, T bundle, String resourceName) {
         vars.put(resourceName + "_class", bundle.getClass().getName());
         vars.put(resourceName, toMap(bundle));
     }
 
+    @SuppressWarnings("unchecked")
     public UserInfo getUserInfo(Map<String, Object> vars) {
-        return mapper.convertValue(vars.get("user"), UserInfo.class);
+        Map<String, Object> user = (Map<String, Object>) vars.get("user");
+        if (user == null) {
+            return null;
+        }
+        return new UserInfo((String) user.get("sub"), (String) user.get("email"), (String) user.get("name"),
+                (String) user.get("surname"), (List<String>) user.get("roles"));
     }
 
     public void putUserInfo(Map<String, Object> vars, UserInfo user) {
-        vars.put("user", mapper.convertValue(user, new TypeReference<Map<String, Object>>() {}));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("sub", user.sub());
+        map.put("email", user.email());
+        map.put("name", user.name());
+        map.put("surname", user.surname());
+        map.put("roles", user.roles() != null ? new ArrayList<>(user.roles()) : null);
+        vars.put("user", map);
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Converts the given bundle to a map of its fields, with its payload under {@code payload}.
+     * The fields are converted from a shallow copy of the bundle with an empty payload, so that the payload is not
+     * also serialized under the alias of the resource type (e.g. {@code service}); the given bundle is not modified.
+     */
     public <T extends Bundle> Map<String, Object> toMap(T resource) {
-        Class<T> clazz = (Class<T>) resource.getClass();
-        T bundle = mapper.convertValue(resource, clazz);
-        bundle.setPayload(resource.getPayload());
-        Map<String, Object> res = mapper.convertValue(bundle, new TypeReference<Map<String, Object>>() {});
-        res.put("payload", bundle.getPayload());
+        Bundle fields = BeanUtils.instantiateClass(resource.getClass());
+        BeanUtils.copyProperties(resource, fields, "id", "payload");
+        fields.setPayload(new LinkedHashMap<>());
+        Map<String, Object> res = mapper.convertValue(fields, MAP_TYPE);
+        res.remove("id");
+        res.put("payload", resource.getPayload());
         return res;
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.service;
+
+import gr.uoa.di.madgik.catalogue.exception.ValidationException;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adds resources streamed as NDJSON (one JSON document per line).
+ * <p>
+ * The stream is consumed in chunks, so only one chunk is held in memory at a time. The items of a chunk are
+ * added concurrently through the regular {@link ResourceService#add} of the resource, which also validates
+ * them, so that public copies, PIDs and notifications are handled exactly as for single additions. An item
+ * repeating the id of an earlier item of the same chunk is rejected, so that the outcome never depends on
+ * which of the two concurrent additions wins. A failing item does not stop the ingest; its error is
+ * reported in the per-item result instead.
+ */
+@Component
+public class BulkIngestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkIngestService.class);
+
+    private final ObjectMapper objectMapper;
+    private final ExecutorService executor;
+    private final int chunkSize;
+
+    public BulkIngestService(ObjectMapper objectMapper,
+                             @Value("${catalogue.bulk.chunk-size:100}") int chunkSize,
+                             @Value("${catalogue.bulk.parallelism:4}") int parallelism) {
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-ingest-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public enum Status {
+        ADDED, INVALID, FAILED
+    }
+
+    /**
+     * The outcome of one line of the input.
+     *
+     * @param line   the 1-based line number of the item
+     * @param id     the id of the added resource, or the id given in the input when the item was not added
+     * @param status the outcome
+     * @param error  the reason the item was not added
+     */
+    public record ItemResult(int line, String id, Status status, String error) {
+    }
+
+    /**
+     * Adds every resource of the given NDJSON stream. Blank lines are skipped.
+     *
+     * @param input   the NDJSON stream
+     * @param type    the bundle type of each line
+     * @param service the service adding the resources
+     * @param auth    the authentication of the caller, also used by the worker threads
+     * @return the results, in input order
+     */
+    public <T extends Bundle> List<ItemResult> ingest(InputStream input, Class<T> type,
+                                                      ResourceService<T> service, Authentication auth) {
+        List<ItemResult> results = new ArrayList<>();
+        ExecutorService workers = new DelegatingSecurityContextExecutorService(executor);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            List<Item<T>> chunk = new ArrayList<>(chunkSize);
+            int lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(parse(line, lineNumber, type));
+                if (chunk.size() == chunkSize) {
+                    results.addAll(process(chunk, service, auth, workers));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                results.addAll(process(chunk, service, auth, workers));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read bulk input", e);
+        }
+        logger.info("Bulk ingest of {} finished: {} added, {} not added", type.getSimpleName(),
+                results.stream().filter(r -> r.status() == Status.ADDED).count(),
+                results.stream().filter(r -> r.status() != Status.ADDED).count());
+        return results;
+    }
+
+    private <T extends Bundle> Item<T> parse(String line, int lineNumber, Class<T> type) {
+        try {
+            return new Item<>(lineNumber, objectMapper.readValue(line, type), null);
+        } catch (JacksonException e) {
+            return new Item<>(lineNumber, null, e.getOriginalMessage());
+        }
+    }
+
+    private <T extends Bundle> List<ItemResult> process(List<Item<T>> chunk, ResourceService<T> service,
+                                                        Authentication auth, ExecutorService workers) {
+        Map<String, Integer> lineById = new HashMap<>();
+        List<CompletableFuture<ItemResult>> added = new ArrayList<>(chunk.size());
+        for (Item<T> item : chunk) {
+            if (item.bundle() == null) {
+                added.add(CompletableFuture.completedFuture(
+                        new ItemResult(item.line(), null, Status.INVALID, item.error())));
+                continue;
+            }
+            String id = item.bundle().getId();
+            Integer firstLine = id != null ? lineById.putIfAbsent(id, item.line()) : null;
+            if (firstLine != null) {
+                added.add(CompletableFuture.completedFuture(new ItemResult(item.line(), id, Status.INVALID,
+                        "Duplicate id '%s', already given on line %d".formatted(id, firstLine))));
+            } else {
+                added.add(CompletableFuture.supplyAsync(() -> add(item, service, auth), workers));
+            }
+        }
+        return added.stream().map(CompletableFuture::join).toList();
+    }
+
+    private <T extends Bundle> ItemResult add(Item<T> item, ResourceService<T> service, Authentication auth) {
+        String id = item.bundle().getId();
+        try {
+            T added = service.add(item.bundle(), auth);
+            return new ItemResult(item.line(), added.getId(), Status.ADDED, null);
+        } catch (ValidationException e) {
+            return new ItemResult(item.line(), id, Status.INVALID, e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warn("Bulk ingest could not add line {} with id '{}': {}", item.line(), id, e.getMessage());
+            return new ItemResult(item.line(), id, Status.FAILED, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Item<T>(int line, T bundle, String error) {
+    }
+}
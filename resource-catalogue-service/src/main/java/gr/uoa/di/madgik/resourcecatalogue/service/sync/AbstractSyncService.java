@@ -22,9 +22,9 @@ import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.TrainingResourceBundle;
 import gr.uoa.di.madgik.resourcecatalogue.service.SynchronizerService;
 import jakarta.annotation.PostConstruct;
-import org.javatuples.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -35,8 +35,7 @@ import org.springframework.web.reactive.function.client.WebClientResponseExcepti
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.List;
 
 @Service
 public abstract class AbstractSyncService <T extends Bundle> implements SynchronizerService<T> {
@@ -49,7 +48,8 @@ public abstract class AbstractSyncService <T extends Bundle> implements Synchron
     protected String controller;
     private final String filename;
 
-    private final BlockingQueue<Pair<T, String>> queue;
+    @Autowired
+    private SyncOutbox outbox;
 
     protected abstract String getController();
 
@@ -64,8 +64,6 @@ public abstract class AbstractSyncService <T extends Bundle> implements Synchron
         if (!host.isBlank() && enabled) {
             this.active = true;
         }
-
-        this.queue = new LinkedBlockingQueue<>();
     }
 
     @PostConstruct
@@ -79,94 +77,121 @@ public abstract class AbstractSyncService <T extends Bundle> implements Synchron
         }
     }
 
-    public BlockingQueue<Pair<T, String>> getQueue() {
-        return queue;
-    }
-
-    @Scheduled(initialDelay = 0, fixedRate = 300000)
+    /**
+     * Replays a batch of the failed synchronizations stored in the {@link SyncOutbox}.
+     */
+    @Scheduled(initialDelayString = "${sync.retry.rate:60000}", fixedDelayString = "${sync.retry.rate:60000}")
     public void retrySync() {
-        int syncTries = 0;
-
-        if (!queue.isEmpty()) {
-            logger.warn("There are {} resources waiting to be Synchronized!", queue.size());
-        }
+        if (!active) return;
 
         try {
-            while (!queue.isEmpty() && syncTries < 1) {
-                Pair<T, String> pair = queue.take();
-                logger.info("Attempting to perform '{}' operation for the {}:\n{}", pair.getValue1(), pair.getValue0().getClass(), pair.getValue0());
-                switch (pair.getValue1()) {
-                    case "add" -> syncAdd(pair.getValue0());
-                    case "update" -> syncUpdate(pair.getValue0());
-                    case "delete" -> syncDelete(pair.getValue0());
-                    case "verify" -> syncVerify(pair.getValue0());
-                    default -> logger.warn("Unsupported action: {}", pair.getValue1());
+            List<SyncOutbox.Entry> entries = outbox.claim(controller);
+            if (entries.isEmpty()) return;
+            logger.warn("There are {} resources waiting to be Synchronized!", outbox.count(controller));
+
+            for (SyncOutbox.Entry entry : entries) {
+                @SuppressWarnings("unchecked")
+                T t = (T) outbox.readPayload(entry);
+                if (t == null) {
+                    outbox.complete(entry);
+                    continue;
+                }
+                logger.info("Attempting to perform '{}' operation for the {} with id '{}' (attempt {})",
+                        entry.operation(), t.getClass().getSimpleName(), t.getId(), entry.attempts() + 1);
+                if (send(t, entry.operation())) {
+                    outbox.complete(entry);
+                } else {
+                    outbox.reschedule(entry);
                 }
-                syncTries++;
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Could not replay the pending synchronizations of '{}'", controller, e);
         }
     }
 
     @Override
     public void syncAdd(T t) {
         if (!active) return;
-        boolean retryKey = true;
+        store(t, "add", add(t));
+    }
+
+    @Override
+    public void syncUpdate(T t) {
+        if (!active) return;
+        store(t, "update", update(t));
+    }
+
+    @Override
+    public void syncDelete(T t) {
+        if (!active) return;
+        store(t, "delete", delete(t));
+    }
+
+    @Override
+    public void syncVerify(T t) {
+        if (!active) return;
+        store(t, "verify", verify(t));
+    }
+
+    private boolean send(T t, String operation) {
+        return switch (operation) {
+            case "add" -> add(t);
+            case "update" -> update(t);
+            case "delete" -> delete(t);
+            case "verify" -> verify(t);
+            default -> {
+                logger.warn("Unsupported action: {}", operation);
+                yield true;
+            }
+        };
+    }
 
+    private boolean add(T t) {
         try {
             ResponseEntity<?> response = sendRequest(HttpMethod.POST, host + controller, t, t.getClass());
-            if (response.getStatusCode() == HttpStatus.CREATED) retryKey = false;
-            else logError("Adding", t, response);
+            if (response.getStatusCode() == HttpStatus.CREATED) return true;
+            logError("Adding", t, response);
+        } catch (WebClientResponseException e) {
+            // a replayed add that has already reached the remote host
+            if (e.getStatusCode() == HttpStatus.CONFLICT) return true;
+            logException("syncAdd", t, e);
         } catch (Exception e) {
             logException("syncAdd", t, e);
         }
-
-        retryIfNecessary(t, "add", retryKey);
+        return false;
     }
 
-    @Override
-    public void syncUpdate(T t) {
-        if (!active) return;
-        boolean retryKey = true;
-
+    private boolean update(T t) {
         try {
             ResponseEntity<?> response = sendRequest(HttpMethod.PUT, host + controller, t, t.getClass());
-            if (response.getStatusCode() == HttpStatus.OK) retryKey = false;
-            else logError("Updating", t, response);
+            if (response.getStatusCode() == HttpStatus.OK) return true;
+            logError("Updating", t, response);
         } catch (Exception e) {
             logException("syncUpdate", t, e);
         }
-
-        retryIfNecessary(t, "update", retryKey);
+        return false;
     }
 
-    @Override
-    public void syncDelete(T t) {
-        if (!active) return;
-        boolean retryKey = true;
-
+    private boolean delete(T t) {
         String deleteUrl = String.format("%s/%s/%s", host, controller, t.getId());
         try {
             ResponseEntity<Void> response = sendRequestWithoutBody(HttpMethod.DELETE, deleteUrl, Void.class);
-            if (response.getStatusCode() == HttpStatus.NO_CONTENT) retryKey = false;
-            else logError("Deleting", t, response);
+            if (response.getStatusCode() == HttpStatus.NO_CONTENT) return true;
+            logError("Deleting", t, response);
+        } catch (WebClientResponseException e) {
+            // a replayed delete that has already reached the remote host
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND) return true;
+            logException("syncDelete", t, e);
         } catch (Exception e) {
             logException("syncDelete", t, e);
         }
-
-        retryIfNecessary(t, "delete", retryKey);
+        return false;
     }
 
-    @Override
-    public void syncVerify(T t) {
-        if (!active) return;
-        boolean retryKey = true;
-        String uri;
-
+    private boolean verify(T t) {
         try {
             // Determine the correct verification endpoint
-            uri = switch (t) {
+            String uri = switch (t) {
                 case OrganisationBundle provider ->
                         host + controller + "/verifyProvider/" + t.getId() + "?active=true&status=approved%20provider";
                 case TrainingResourceBundle trainingResource ->
@@ -180,16 +205,13 @@ public abstract class AbstractSyncService <T extends Bundle> implements Synchron
             ResponseEntity<?> response = sendRequest(HttpMethod.PATCH, uri, t, t.getClass());
 
             if (response != null && response.getStatusCode() == HttpStatus.OK) {
-                retryKey = false;
-            } else {
-                logError("Verifying", t, response);
+                return true;
             }
-
+            logError("Verifying", t, response);
         } catch (Exception e) {
             logException("syncVerify", t, e);
         }
-
-        retryIfNecessary(t, "verify", retryKey);
+        return false;
     }
 
     private <R> ResponseEntity<R> sendRequest(HttpMethod method, String url, Object body, Class<R> responseType) {
@@ -244,13 +266,16 @@ public abstract class AbstractSyncService <T extends Bundle> implements Synchron
         }
     }
 
-    private void retryIfNecessary(T t, String operation, boolean retryKey) {
-        if (retryKey) {
-            try {
-                queue.add(Pair.with(t, operation));
-            } catch (IllegalStateException e) {
-                logger.info("No space is currently available in the Queue");
+    private void store(T t, String operation, boolean synced) {
+        try {
+            if (synced) {
+                outbox.remove(controller, t.getId(), operation);
+            } else {
+                outbox.enqueue(controller, t, operation);
             }
+        } catch (RuntimeException e) {
+            logger.error("Could not update the synchronization outbox for '{}' operation of {} with id '{}'",
+                    operation, t.getClass().getSimpleName(), t.getId(), e);
         }
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.service.sync;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Persistent store of the synchronization requests that could not be delivered to the remote host.
+ * <p>
+ * Entries are unique per (controller, resource, operation); enqueueing the same operation again only replaces
+ * the payload with the latest state of the resource, so a replay always sends the most recent version once.
+ * Entries are claimed in batches with {@code FOR UPDATE SKIP LOCKED}, so that several instances can drain the
+ * outbox concurrently, and are retried with an exponential backoff per entry. A claimed entry is leased for a
+ * short period only, so the entries of an instance that died while replaying them are soon picked up again.
+ */
+@Component
+public class SyncOutbox {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyncOutbox.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long initialBackoff;
+    private final long maxBackoff;
+    private final long lease;
+
+    public SyncOutbox(DataSource dataSource,
+                      ObjectMapper objectMapper,
+                      @Value("${sync.retry.batch-size:100}") int batchSize,
+                      @Value("${sync.retry.initial-backoff:60000}") long initialBackoff,
+                      @Value("${sync.retry.max-backoff:21600000}") long maxBackoff,
+                      @Value("${sync.retry.lease:600000}") long lease) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+    }
+
+    public record Entry(long id, String resourceId, String operation, String payloadType, String payload,
+                        int attempts) {
+    }
+
+    /**
+     * Stores a failed synchronization request. A pending delete supersedes any other pending operation
+     * of the same resource.
+     */
+    public void enqueue(String controller, Bundle bundle, String operation) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("controller", controller)
+                .addValue("resourceId", bundle.getId())
+                .addValue("operation", operation)
+                .addValue("payloadType", bundle.getClass().getName())
+                .addValue("payload", objectMapper.writeValueAsString(bundle));
+        if ("delete".equals(operation)) {
+            jdbcTemplate.update("""
+                    DELETE FROM sync_outbox
+                    WHERE controller = :controller AND resource_id = :resourceId AND operation <> 'delete'
+                    """, params);
+        }
+        jdbcTemplate.update("""
+                INSERT INTO sync_outbox (controller, resource_id, operation, payload_type, payload)
+                VALUES (:controller, :resourceId, :operation, :payloadType, :payload)
+                ON CONFLICT (controller, resource_id, operation)
+                DO UPDATE SET payload_type = EXCLUDED.payload_type, payload = EXCLUDED.payload
+                """, params);
+    }
+
+    /**
+     * Drops the pending entries made obsolete by a successful synchronization, so that an older payload
+     * is never replayed over a newer one.
+     */
+    public void remove(String controller, String resourceId, String operation) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("controller", controller)
+                .addValue("resourceId", resourceId)
+                .addValue("operation", operation);
+        if ("delete".equals(operation)) {
+            jdbcTemplate.update("""
+                    DELETE FROM sync_outbox WHERE controller = :controller AND resource_id = :resourceId
+                    """, params);
+        } else {
+            jdbcTemplate.update("""
+                    DELETE FROM sync_outbox
+                    WHERE controller = :controller AND resource_id = :resourceId AND operation = :operation
+                    """, params);
+        }
+    }
+
+    /**
+     * Claims the next batch of due entries. Claimed entries are leased, so they are not picked up by another
+     * instance while being replayed; the lease must exceed the time needed to replay a batch.
+     */
+    public List<Entry> claim(String controller) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("controller", controller)
+                .addValue("limit", batchSize)
+                .addValue("lease", lease);
+        return jdbcTemplate.query("""
+                UPDATE sync_outbox SET next_attempt = now() + (:lease * interval '1 millisecond')
+                WHERE id IN (
+                    SELECT id FROM sync_outbox
+                    WHERE controller = :controller AND next_attempt <= now()
+                    ORDER BY next_attempt, id
+                    LIMIT :limit
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING id, resource_id, operation, payload_type, payload, attempts
+                """, params, (rs, rowNum) -> new Entry(
+                rs.getLong("id"),
+                rs.getString("resource_id"),
+                rs.getString("operation"),
+                rs.getString("payload_type"),
+                rs.getString("payload"),
+                rs.getInt("attempts")));
+    }
+
+    public void complete(Entry entry) {
+        jdbcTemplate.update("DELETE FROM sync_outbox WHERE id = :id",
+                new MapSqlParameterSource("id", entry.id()));
+    }
+
+    /**
+     * Schedules the next attempt of an entry, doubling the delay after every failed attempt.
+     */
+    public void reschedule(Entry entry) {
+        long delay = initialBackoff << Math.min(entry.attempts(), 30);
+        if (delay <= 0 || delay > maxBackoff) {
+            delay = maxBackoff;
+        }
+        jdbcTemplate.update("""
+                UPDATE sync_outbox
+                SET attempts = attempts + 1, next_attempt = now() + (:delay * interval '1 millisecond')
+                WHERE id = :id
+                """, new MapSqlParameterSource("id", entry.id()).addValue("delay", delay));
+    }
+
+    public long count(String controller) {
+        Long count = jdbcTemplate.queryForObject("SELECT count(*) FROM sync_outbox WHERE controller = :controller",
+                new MapSqlParameterSource("controller", controller), Long.class);
+        return count != null ? count : 0;
+    }
+
+    public Bundle readPayload(Entry entry) {
+        try {
+            return (Bundle) objectMapper.readValue(entry.payload(), Class.forName(entry.payloadType()));
+        } catch (ClassNotFoundException e) {
+            logger.error("Unknown payload type '{}' of outbox entry {}", entry.payloadType(), entry.id());
+            return null;
+        }
+    }
+}
@@ -23,7 +23,6 @@ import freemarker.template.TemplateException;
 import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.resourcecatalogue.config.NodeProperties;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
-import gr.uoa.di.madgik.resourcecatalogue.exceptions.CatalogueResourceNotFoundException;
 import gr.uoa.di.madgik.resourcecatalogue.manager.*;
 import gr.uoa.di.madgik.resourcecatalogue.service.*;
 import org.slf4j.Logger;
@@ -38,6 +37,8 @@ import jakarta.mail.MessagingException;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class InternalToPublicConsistency {
@@ -82,6 +83,18 @@ public class InternalToPublicConsistency {
     private String consistencyTo;
     @Value("${catalogue.email-properties.resource-consistency.cc:}")
     private String consistencyCC;
+    @Value("${catalogue.resource-consistency.page-size:1000}")
+    private int pageSize;
+    @Value("${catalogue.resource-consistency.full-check-interval-days:7}")
+    private int fullCheckIntervalDays;
+
+    /**
+     * Start of the previous run and of the previous full run. Runs in between only re-examine the resources
+     * modified since the previous run, along with the ones found inconsistent by it.
+     */
+    private volatile long lastCheck;
+    private volatile long lastFullCheck;
+    private final Map<String, Set<String>> inconsistent = new ConcurrentHashMap<>();
 
     public InternalToPublicConsistency(OrganisationService organisationService,
                                        ServiceService serviceService,
@@ -132,154 +145,149 @@ public class InternalToPublicConsistency {
     @Scheduled(cron = "0 0 0 * * *")
 //    @Scheduled(initialDelay = 0, fixedRate = 6000)
     protected void logInternalToPublicResourceConsistency() {
-        List<OrganisationBundle> allInternalApprovedProviders = organisationService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<ServiceBundle> allInternalApprovedServices = serviceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<CatalogueBundle> allInternalApprovedCatalogues = catalogueService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<TrainingResourceBundle> allInternalApprovedTR = trainingResourceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<DeployableApplicationBundle> allInternalApprovedDS = deployableApplicationService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<InteroperabilityRecordBundle> allInternalApprovedIR = interoperabilityRecordService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<ResourceInteroperabilityRecordBundle> allInternalApprovedRIR = resourceInteroperabilityRecordService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<DatasourceBundle> allInternalApprovedDatasources = datasourceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<ConfigurationTemplateInstanceBundle> allInternalCTI = configurationTemplateInstanceService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
-        List<AdapterBundle> allInternalApprovedAdapters = adapterService.getAll(createFacetFilter(), securityService.getAdminAccess()).getResults();
+        long runStart = System.currentTimeMillis();
+        boolean fullCheck = lastFullCheck == 0
+                || runStart - lastFullCheck >= TimeUnit.DAYS.toMillis(fullCheckIntervalDays);
+        long changedSince = fullCheck ? 0 : lastCheck;
+
         List<String> logs = new ArrayList<>();
+        check(new ResourceCheck<>("Provider", organisationService, publicOrganisationService,
+                "Provider with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Adapter", adapterService, publicAdapterService,
+                "Adapter with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Service", serviceService, publicServiceManager,
+                "Service with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Catalogue", catalogueService, publicCatalogueService,
+                "Catalogue with ID [%1$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Datasource", datasourceService, publicDatasourceService,
+                "Datasource with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Training Resource", trainingResourceService, publicTrainingResourceManager,
+                "Training Resource with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Deployable Application", deployableApplicationService, publicDeployableApplicationService,
+                "Deployable Application with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Interoperability Record", interoperabilityRecordService, publicInteroperabilityRecordManager,
+                "Interoperability Record with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Resource Interoperability Record", resourceInteroperabilityRecordService,
+                publicResourceInteroperabilityRecordManager,
+                "Resource Interoperability Record with ID [%1$s] of the Catalogue [%2$s] is missing its Public instance [%3$s]"), changedSince, logs);
+        check(new ResourceCheck<>("Configuration Template Instance", configurationTemplateInstanceService,
+                publicConfigurationTemplateInstanceService,
+                "Configuration Template Instance with ID [%1$s] of the internal Catalogue is missing its Public instance [%3$s]"), changedSince, logs);
 
-        // check consistency for Providers
-        for (OrganisationBundle organisationBundle : allInternalApprovedProviders) {
-            // try and get its Public instance
-            try {
-                publicOrganisationService.get(organisationBundle.getIdentifiers().getPid(),
-                        organisationBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Provider with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        organisationBundle.getId(), organisationBundle.getCatalogueId(), organisationBundle.getIdentifiers().getPid()));
-            }
+        lastCheck = runStart;
+        if (fullCheck) {
+            lastFullCheck = runStart;
         }
+        logger.info("Internal to Public Resource Consistency Logs ({} check, {} ms):\n{}", fullCheck ? "full" : "incremental",
+                System.currentTimeMillis() - runStart, String.join("\n", logs));
+        sendConsistencyEmails(logs);
 
-        // check consistency for Adapters
-        for (AdapterBundle adapterBundle : allInternalApprovedAdapters) {
-            // try and get its Public instance
-            try {
-                publicAdapterService.get(adapterBundle.getIdentifiers().getPid(),
-                        adapterBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Adapter with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        adapterBundle.getId(), adapterBundle.getCatalogueId(),
-                        adapterBundle.getIdentifiers().getPid()));
-            }
-        }
+    }
 
-        // check consistency for Services
-        for (ServiceBundle serviceBundle : allInternalApprovedServices) {
-            // try and get its Public instance
-            try {
-                publicServiceManager.get(serviceBundle.getIdentifiers().getPid(),
-                        serviceBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Service with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        serviceBundle.getId(), serviceBundle.getCatalogueId(), serviceBundle.getIdentifiers().getPid()));
-            }
-        }
+    /**
+     * An internal resource type, its public counterpart and the message logged for a missing public instance,
+     * formatted with the id, the catalogue and the PID of the internal resource.
+     */
+    private record ResourceCheck<T extends Bundle>(String name,
+                                                   ResourceCatalogueGenericService<T> internalService,
+                                                   PublicResourceService<T> publicService,
+                                                   String missingMessage) {
+    }
 
-        // check consistency for Catalogues
-        for (CatalogueBundle catalogueBundle : allInternalApprovedCatalogues) {
-            // try and get its Public instance
-            try {
-                publicCatalogueService.get(catalogueBundle.getIdentifiers().getPid(),
-                        catalogueBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Catalogue with ID [%s] is missing its Public instance [%s]",
-                        catalogueBundle.getId(), catalogueBundle.getIdentifiers().getPid()));
-            }
-        }
+    /**
+     * Compares the approved internal resources of a type, changed since the given time or inconsistent on the
+     * previous run, with their public instances. The internal resources are paged by id, so that every one of
+     * them is visited once regardless of their number, and the public instances are looked up by PID a page at
+     * a time.
+     */
+    private <T extends Bundle> void check(ResourceCheck<T> check, long changedSince, List<String> logs) {
+        Set<String> previouslyInconsistent = inconsistent.getOrDefault(check.name(), Set.of());
+        Set<String> nowInconsistent = new HashSet<>();
 
-        // check consistency for Datasources
-        for (DatasourceBundle datasourceBundle : allInternalApprovedDatasources) {
-            // try and get its Public instance
-            try {
-                publicDatasourceService.get(datasourceBundle.getIdentifiers().getPid(),
-                        datasourceBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Datasource with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        datasourceBundle.getId(), datasourceBundle.getCatalogueId(),
-                        datasourceBundle.getIdentifiers().getPid()));
+        String cursor = null;
+        do {
+            FacetFilter ff = createFacetFilter();
+            if (changedSince > 0) {
+                ff.addFilter("modifiedAt", new KeysetPager.Range(changedSince, null));
             }
-        }
+            KeysetPager.Page<T> page = check.internalService().getAll(ff, cursor, securityService.getAdminAccess());
+            // pagers without range support return every resource
+            List<T> changed = page.results().stream()
+                    .filter(bundle -> changedSince == 0 || modifiedAt(bundle) >= changedSince)
+                    .toList();
+            compare(check, changed, nowInconsistent, logs);
+            cursor = page.next();
+        } while (cursor != null);
 
-        // check consistency for Training Resources
-        for (TrainingResourceBundle trainingResourceBundle : allInternalApprovedTR) {
-            // try and get its Public instance
-            try {
-                publicTrainingResourceManager.get(trainingResourceBundle.getIdentifiers().getPid(),
-                        trainingResourceBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Training Resource with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        trainingResourceBundle.getId(), trainingResourceBundle.getCatalogueId(),
-                        trainingResourceBundle.getIdentifiers().getPid()));
+        // the previously inconsistent resources that have not changed since, and so were not visited above
+        if (changedSince > 0 && !previouslyInconsistent.isEmpty()) {
+            List<String> ids = new ArrayList<>(previouslyInconsistent);
+            for (int i = 0; i < ids.size(); i += pageSize) {
+                FacetFilter ff = createFacetFilter();
+                ff.addFilter("resource_internal_id", new ArrayList<>(ids.subList(i, Math.min(i + pageSize, ids.size()))));
+                List<T> unchanged = check.internalService().getAll(ff, securityService.getAdminAccess()).getResults()
+                        .stream()
+                        .filter(bundle -> modifiedAt(bundle) < changedSince)
+                        .toList();
+                compare(check, unchanged, nowInconsistent, logs);
             }
         }
+        inconsistent.put(check.name(), nowInconsistent);
+    }
 
-        // check consistency for Deployable Application
-        for (DeployableApplicationBundle deployableApplicationBundle : allInternalApprovedDS) {
-            // try and get its Public instance
-            try {
-                publicDeployableApplicationService.get(deployableApplicationBundle.getIdentifiers().getPid(),
-                        deployableApplicationBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Deployable Application with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        deployableApplicationBundle.getId(), deployableApplicationBundle.getCatalogueId(),
-                        deployableApplicationBundle.getIdentifiers().getPid()));
-            }
+    private <T extends Bundle> void compare(ResourceCheck<T> check, List<T> internal, Set<String> nowInconsistent,
+                                            List<String> logs) {
+        Map<String, List<T>> publicByPid = new HashMap<>();
+        for (T publicBundle : findPublic(check.publicService(), internal)) {
+            publicByPid.computeIfAbsent(publicBundle.getId(), k -> new ArrayList<>()).add(publicBundle);
         }
-
-        // check consistency for Interoperability Records
-        for (InteroperabilityRecordBundle interoperabilityRecordBundle : allInternalApprovedIR) {
-            // try and get its Public instance
-            try {
-                publicInteroperabilityRecordManager.get(interoperabilityRecordBundle.getIdentifiers().getPid(),
-                        interoperabilityRecordBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Interoperability Record with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        interoperabilityRecordBundle.getId(), interoperabilityRecordBundle.getCatalogueId(),
-                        interoperabilityRecordBundle.getIdentifiers().getPid()));
+        for (T bundle : internal) {
+            String pid = bundle.getIdentifiers() != null ? bundle.getIdentifiers().getPid() : null;
+            T publicBundle = publicByPid.getOrDefault(pid, List.of()).stream()
+                    .filter(candidate -> bundle.getCatalogueId() == null || bundle.getCatalogueId().isBlank()
+                            || bundle.getCatalogueId().equals(candidate.getCatalogueId()))
+                    .findFirst()
+                    .orElse(null);
+            if (publicBundle == null) {
+                logs.add(String.format(check.missingMessage(), bundle.getId(), bundle.getCatalogueId(), pid));
+                nowInconsistent.add(bundle.getId());
+            } else if (modifiedAt(publicBundle) < modifiedAt(bundle)) {
+                logs.add(String.format("%s with ID [%s] of the Catalogue [%s] has an outdated Public instance [%s]",
+                        check.name(), bundle.getId(), bundle.getCatalogueId(), pid));
+                nowInconsistent.add(bundle.getId());
             }
         }
+    }
 
-        // check consistency for Resource Interoperability Records
-        for (ResourceInteroperabilityRecordBundle resourceInteroperabilityRecordBundle : allInternalApprovedRIR) {
-            // try and get its Public instance
-            try {
-                publicResourceInteroperabilityRecordManager.get(resourceInteroperabilityRecordBundle.getIdentifiers().getPid(),
-                        resourceInteroperabilityRecordBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Resource Interoperability Record with ID [%s] of the Catalogue [%s] is missing its Public instance [%s]",
-                        resourceInteroperabilityRecordBundle.getId(),
-                        resourceInteroperabilityRecordBundle.getCatalogueId(),
-                        resourceInteroperabilityRecordBundle.getIdentifiers().getPid()));
-            }
+    private <T extends Bundle> List<T> findPublic(PublicResourceService<T> publicService, List<T> internal) {
+        List<String> pids = internal.stream()
+                .map(bundle -> bundle.getIdentifiers() != null ? bundle.getIdentifiers().getPid() : null)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (pids.isEmpty()) {
+            return List.of();
         }
+        FacetFilter ff = new FacetFilter();
+        ff.setQuantity(pids.size());
+        ff.addFilter("resource_internal_id", new ArrayList<>(pids));
+        return publicService.getAll(ff).getResults();
+    }
 
-        // check consistency for Configuration Template Instances
-        for (ConfigurationTemplateInstanceBundle ctiBundle : allInternalCTI) {
-            // try and get its Public instance
-            try {
-                publicConfigurationTemplateInstanceService.get(ctiBundle.getIdentifiers().getPid(),
-                        ctiBundle.getCatalogueId());
-            } catch (CatalogueResourceNotFoundException e) {
-                logs.add(String.format("Configuration Template Instance with ID [%s] of the internal Catalogue " +
-                                "is missing its Public instance [%s]",
-                        ctiBundle.getId(), ctiBundle.getIdentifiers().getPid()));
-            }
+    private static long modifiedAt(Bundle bundle) {
+        if (bundle.getMetadata() == null || bundle.getMetadata().getModifiedAt() == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(bundle.getMetadata().getModifiedAt());
+        } catch (NumberFormatException e) {
+            return 0;
         }
-
-        logger.info("Internal to Public Resource Consistency Logs:\n{}", String.join("\n", logs));
-        sendConsistencyEmails(logs);
-
     }
 
     protected FacetFilter createFacetFilter() {
         FacetFilter ff = new FacetFilter();
-        ff.setQuantity(10000);
+        ff.setQuantity(pageSize);
         ff.addFilter("published", false);
         ff.addFilter("status", "approved");
         return ff;
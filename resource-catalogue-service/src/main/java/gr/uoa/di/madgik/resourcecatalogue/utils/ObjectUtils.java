@@ -16,12 +16,16 @@
 
 package gr.uoa.di.madgik.resourcecatalogue.utils;
 
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Optional;
 
 public class ObjectUtils {
 
@@ -32,7 +36,37 @@ public class ObjectUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ObjectUtils.class);
 
+    /**
+     * Copy constructors of the {@link Bundle} types, looked up once per class.
+     */
+    private static final ClassValue<Optional<Constructor<?>>> copyConstructors = new ClassValue<>() {
+        @Override
+        protected Optional<Constructor<?>> computeValue(Class<?> type) {
+            try {
+                return Optional.of(type.getConstructor(type));
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+        }
+    };
+
+    /**
+     * Returns a deep copy of the given object. Bundles providing a copy constructor are copied structurally,
+     * any other object is copied through a JSON round-trip.
+     */
     public static <T> T clone(T object) {
+        if (object instanceof Bundle) {
+            Optional<Constructor<?>> copyConstructor = copyConstructors.get(object.getClass());
+            if (copyConstructor.isPresent()) {
+                try {
+                    return (T) copyConstructor.get().newInstance(object);
+                } catch (InvocationTargetException e) {
+                    throw new RuntimeException(e.getCause());
+                } catch (ReflectiveOperationException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }
         T deepCopy = null;
         try {
             String json = objectMapper.writeValueAsString(object);
@@ -16,19 +16,28 @@
 
 package gr.uoa.di.madgik.resourcecatalogue.utils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import gr.uoa.di.madgik.catalogue.exception.ValidationException;
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
 import gr.uoa.di.madgik.resourcecatalogue.domain.*;
-import gr.uoa.di.madgik.resourcecatalogue.exceptions.CatalogueResourceNotFoundException;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
 import gr.uoa.di.madgik.resourcecatalogue.service.InteroperabilityRecordService;
 import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
+import gr.uoa.di.madgik.resourcecatalogue.service.ResourceCatalogueGenericService;
 import gr.uoa.di.madgik.resourcecatalogue.service.ServiceService;
 import gr.uoa.di.madgik.resourcecatalogue.service.TrainingResourceService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Set;
 
 @Component
 public class RelationshipValidator {
@@ -38,15 +47,26 @@ public class RelationshipValidator {
     private final TrainingResourceService trainingResourceService;
     private final InteroperabilityRecordService interoperabilityRecordService;
 
+    /**
+     * Ids known to exist, or null when disabled. Only positive lookups are kept, and entries are dropped as
+     * soon as the resource is deleted on this instance, so the TTL bounds how long a reference to a resource
+     * deleted on another instance is still accepted.
+     */
+    private final Cache<Key, Boolean> existing;
+
     @Autowired
     public RelationshipValidator(OrganisationService organisationService,
                                  ServiceService serviceService,
                                  TrainingResourceService trainingResourceService,
-                                 InteroperabilityRecordService interoperabilityRecordService) {
+                                 InteroperabilityRecordService interoperabilityRecordService,
+                                 @Value("${catalogue.relationships.existence-cache-ttl:0s}") Duration existenceCacheTtl) {
         this.organisationService = organisationService;
         this.serviceService = serviceService;
         this.trainingResourceService = trainingResourceService;
         this.interoperabilityRecordService = interoperabilityRecordService;
+        this.existing = existenceCacheTtl.isPositive()
+                ? Caffeine.newBuilder().expireAfterWrite(existenceCacheTtl).maximumSize(10_000).build()
+                : null;
     }
 
     //TODO: decide if we still want public IDs inside lower level resources
@@ -92,45 +112,63 @@ public class RelationshipValidator {
                     interoperabilityRecordIds = (List<String>) interoperabilityRecordIdsObj;
                 }
             }
-            if (!serviceProviders.isEmpty() && serviceProviders.stream().anyMatch(Objects::nonNull)) {
-                for (String serviceProvider : serviceProviders) {
-                    if (serviceProvider != null && !serviceProvider.isEmpty()) {
-                        try {
-                            organisationService.get(serviceProvider, catalogueId);
-                        } catch (CatalogueResourceNotFoundException e) {
-                            throw new ValidationException(String.format("Field [resourceProviders]: " +
-                                            "There is no Provider with ID '%s' in the %s Catalogue.",
-                                    serviceProvider, catalogueId));
-                        }
-                    }
-                }
+            checkExistence("organisation", organisationService, serviceProviders, catalogueId,
+                    "Field [resourceProviders]: There is no Provider with ID '%s' in the %s Catalogue.");
+            checkExistence("service", serviceService, eoscRelatedServices, catalogueId,
+                    "Field [eoscRelatedServices]: There is no Service with ID '%s' in the %s Catalogue. ");
+            checkExistence("interoperability_record", interoperabilityRecordService, interoperabilityRecordIds, catalogueId,
+                    "Field [interoperabilityRecordIds]: There is no Interoperability Record with ID '%s' in the %s Catalogue.");
+        }
+    }
+
+    /**
+     * Checks that every given id exists in the catalogue with a single search, after dropping the ids
+     * already known to exist.
+     *
+     * @throws ValidationException for the first id, in input order, that does not exist
+     */
+    private void checkExistence(String resourceType, ResourceCatalogueGenericService<? extends Bundle> service,
+                                List<String> ids, String catalogueId, String message) {
+        Set<String> unknown = new LinkedHashSet<>();
+        for (String id : ids) {
+            if (id != null && !id.isEmpty() && (existing == null
+                    || existing.getIfPresent(new Key(resourceType, catalogueId, id)) == null)) {
+                unknown.add(id);
             }
-            if (!eoscRelatedServices.isEmpty() && eoscRelatedServices.stream().anyMatch(Objects::nonNull)) {
-                for (String eoscRelatedService : eoscRelatedServices) {
-                    if (eoscRelatedService != null && !eoscRelatedService.isEmpty()) {
-                        try {
-                            serviceService.get(eoscRelatedService, catalogueId);
-                        } catch (CatalogueResourceNotFoundException e) {
-                            throw new ValidationException(String.format("Field [eoscRelatedServices]: " +
-                                            "There is no Service with ID '%s' in the %s Catalogue. ",
-                                    eoscRelatedService, catalogueId));
-                        }
-                    }
-                }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        FacetFilter ff = new FacetFilter();
+        ff.setQuantity(unknown.size());
+        ff.addFilter("resource_internal_id", new ArrayList<>(unknown));
+        ff.addFilter("published", false);
+        if (catalogueId != null && !catalogueId.isBlank()) {
+            ff.addFilter("catalogue_id", catalogueId);
+        }
+        Set<String> found = new HashSet<>();
+        for (Bundle bundle : service.getAll(ff).getResults()) {
+            found.add(bundle.getId());
+        }
+
+        for (String id : unknown) {
+            if (!found.contains(id)) {
+                throw new ValidationException(String.format(message, id, catalogueId));
             }
-            if (!interoperabilityRecordIds.isEmpty() && interoperabilityRecordIds.stream().anyMatch(Objects::nonNull)) {
-                for (String interoperabilityRecordId : interoperabilityRecordIds) {
-                    if (interoperabilityRecordId != null && !interoperabilityRecordId.isEmpty()) {
-                        try {
-                            interoperabilityRecordService.get(interoperabilityRecordId, catalogueId);
-                        } catch (CatalogueResourceNotFoundException e) {
-                            throw new ValidationException(String.format("Field [interoperabilityRecordIds]: " +
-                                            "There is no Interoperability Record with ID '%s' in the %s Catalogue.",
-                                    interoperabilityRecordId, catalogueId));
-                        }
-                    }
-                }
+            if (existing != null) {
+                existing.put(new Key(resourceType, catalogueId, id), Boolean.TRUE);
             }
         }
     }
+
+    @EventListener
+    public void onResourceChange(ResourceChangeEvent event) {
+        if (existing != null && event.getAction() == ResourceChangeEvent.Action.DELETE) {
+            existing.asMap().keySet().removeIf(key -> key.id().equals(event.getResourceId()));
+        }
+    }
+
+    private record Key(String resourceType, String catalogueId, String id) {
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.resourcecatalogue.config.AmsProperties;
+import gr.uoa.di.madgik.resourcecatalogue.service.AmsJmsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.client.reactive.MockClientHttpRequest;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmsJmsServiceUnitTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final List<Published> published = new CopyOnWriteArrayList<>();
+    private AmsJmsService amsJmsService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (amsJmsService != null) {
+            amsJmsService.stopPublisher();
+        }
+    }
+
+    // --- convertAndSendTopic ---
+
+    @Test
+    void convertAndSendTopic_publishesMessagesOfATopicInOneRequest() throws InterruptedException {
+        amsJmsService = start(10, Duration.ofMillis(200));
+
+        amsJmsService.convertAndSendTopic("resource.create", Map.of("id", "a"));
+        amsJmsService.convertAndSendTopic("resource.create", Map.of("id", "b"));
+        amsJmsService.convertAndSendTopic("resource.update", Map.of("id", "c"));
+        awaitMessages(3);
+
+        assertThat(published).extracting(Published::url).containsExactlyInAnyOrder(
+                "http://ams/project/topics/resource-create:publish",
+                "http://ams/project/topics/resource-update:publish");
+        assertThat(published).filteredOn(p -> p.url().contains("resource-create"))
+                .singleElement().extracting(Published::messages).isEqualTo(2);
+    }
+
+    @Test
+    void convertAndSendTopic_publishesFullBatchesWithoutWaiting() throws InterruptedException {
+        amsJmsService = start(2, Duration.ofMinutes(1));
+
+        amsJmsService.convertAndSendTopic("resource.create", Map.of("id", "a"));
+        amsJmsService.convertAndSendTopic("resource.create", Map.of("id", "b"));
+        awaitMessages(2);
+
+        assertThat(published).singleElement().extracting(Published::messages).isEqualTo(2);
+    }
+
+    // --- stopPublisher ---
+
+    @Test
+    void stopPublisher_publishesBufferedMessages() throws InterruptedException {
+        amsJmsService = start(10, Duration.ofMinutes(1));
+        amsJmsService.convertAndSendTopic("resource.create", Map.of("id", "a"));
+
+        amsJmsService.stopPublisher();
+
+        assertThat(published).singleElement().extracting(Published::messages).isEqualTo(1);
+    }
+
+    @Test
+    void convertAndSendTopic_afterStop_dropsMessage() throws InterruptedException {
+        amsJmsService = start(10, Duration.ofMillis(50));
+        amsJmsService.stopPublisher();
+
+        amsJmsService.convertAndSendTopic("resource.create", Map.of("id", "a"));
+        Thread.sleep(200);
+
+        assertThat(published).isEmpty();
+    }
+
+    private AmsJmsService start(int batchSize, Duration flushInterval) {
+        AmsProperties properties = new AmsProperties();
+        properties.setEnabled(true);
+        properties.setHost("http://ams");
+        properties.setProject("project");
+        properties.setKey("key");
+        properties.setBatchSize(batchSize);
+        properties.setFlushInterval(flushInterval);
+        WebClient.Builder webClient = WebClient.builder().exchangeFunction(request -> {
+            published.add(new Published(request.url().toString(), countMessages(request)));
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        });
+        AmsJmsService service = new AmsJmsService(webClient, properties, jsonMapper);
+        service.startPublisher();
+        return service;
+    }
+
+    private int countMessages(ClientRequest request) {
+        MockClientHttpRequest body = new MockClientHttpRequest(request.method(), request.url());
+        request.body().insert(body, new BodyInserter.Context() {
+            @Override
+            public List<HttpMessageWriter<?>> messageWriters() {
+                return ExchangeStrategies.withDefaults().messageWriters();
+            }
+
+            @Override
+            public Optional<ServerHttpRequest> serverRequest() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Map<String, Object> hints() {
+                return Map.of();
+            }
+        }).block();
+        JsonNode json = jsonMapper.readTree(body.getBodyAsString().block());
+        return json.get("messages").size();
+    }
+
+    private void awaitMessages(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (published.stream().mapToInt(Published::messages).sum() < count
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    private record Published(String url, int messages) {
+    }
+}
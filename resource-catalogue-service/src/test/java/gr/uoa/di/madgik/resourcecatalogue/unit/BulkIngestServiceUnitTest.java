@@ -0,0 +1,148 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.catalogue.exception.ValidationException;
+import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
+import gr.uoa.di.madgik.resourcecatalogue.service.BulkIngestService;
+import gr.uoa.di.madgik.resourcecatalogue.service.BulkIngestService.ItemResult;
+import gr.uoa.di.madgik.resourcecatalogue.service.BulkIngestService.Status;
+import gr.uoa.di.madgik.resourcecatalogue.service.ServiceService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static gr.uoa.di.madgik.resourcecatalogue.utils.TestUtils.createJwtAuth;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkIngestServiceUnitTest {
+
+    @Mock
+    private ServiceService serviceService;
+
+    private final BulkIngestService bulkIngestService = new BulkIngestService(JsonMapper.builder().build(), 2, 2);
+    private final Authentication auth = createJwtAuth();
+
+    @AfterEach
+    void tearDown() {
+        bulkIngestService.shutdown();
+    }
+
+    // --- ingest ---
+
+    @Test
+    void ingest_addsEveryLineAcrossChunksInInputOrder() {
+        when(serviceService.add(any(ServiceBundle.class), eq(auth))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ItemResult> results = bulkIngestService.ingest(ndjson(line("a"), line("b"), line("c")),
+                ServiceBundle.class, serviceService, auth);
+
+        assertThat(results).extracting(ItemResult::id).containsExactly("a", "b", "c");
+        assertThat(results).extracting(ItemResult::status).containsOnly(Status.ADDED);
+        verify(serviceService, times(3)).add(any(ServiceBundle.class), eq(auth));
+    }
+
+    @Test
+    void ingest_skipsBlankLinesButKeepsLineNumbers() {
+        when(serviceService.add(any(ServiceBundle.class), eq(auth))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ItemResult> results = bulkIngestService.ingest(ndjson(line("a"), "", line("b")),
+                ServiceBundle.class, serviceService, auth);
+
+        assertThat(results).extracting(ItemResult::line).containsExactly(1, 3);
+    }
+
+    @Test
+    void ingest_malformedLine_isReportedAndOthersAreAdded() {
+        when(serviceService.add(any(ServiceBundle.class), eq(auth))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ItemResult> results = bulkIngestService.ingest(ndjson("{\"service\": ", line("b")),
+                ServiceBundle.class, serviceService, auth);
+
+        assertThat(results.get(0).status()).isEqualTo(Status.INVALID);
+        assertThat(results.get(0).error()).isNotBlank();
+        assertThat(results.get(1).status()).isEqualTo(Status.ADDED);
+    }
+
+    @Test
+    void ingest_invalidBundle_isReportedAsInvalid() {
+        when(serviceService.add(argThat(bundle -> "a".equals(bundle.getId())), eq(auth)))
+                .thenThrow(new ValidationException("name is mandatory"));
+
+        List<ItemResult> results = bulkIngestService.ingest(ndjson(line("a")), ServiceBundle.class, serviceService, auth);
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.status()).isEqualTo(Status.INVALID);
+            assertThat(result.error()).isEqualTo("name is mandatory");
+        });
+        verify(serviceService, never()).validate(any(ServiceBundle.class));
+    }
+
+    @Test
+    void ingest_duplicateIdInChunk_isReportedAndAddedOnce() {
+        when(serviceService.add(any(ServiceBundle.class), eq(auth))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ItemResult> results = bulkIngestService.ingest(ndjson(line("a"), line("a")),
+                ServiceBundle.class, serviceService, auth);
+
+        assertThat(results).extracting(ItemResult::status).containsExactly(Status.ADDED, Status.INVALID);
+        assertThat(results.get(1).error()).isEqualTo("Duplicate id 'a', already given on line 1");
+        verify(serviceService, times(1)).add(any(ServiceBundle.class), eq(auth));
+    }
+
+    @Test
+    void ingest_failedAdd_isReportedAndOthersAreAdded() {
+        when(serviceService.add(any(ServiceBundle.class), eq(auth))).thenAnswer(invocation -> {
+            ServiceBundle bundle = invocation.getArgument(0);
+            if ("a".equals(bundle.getId())) {
+                throw new IllegalStateException("registry unavailable");
+            }
+            return bundle;
+        });
+
+        List<ItemResult> results = bulkIngestService.ingest(ndjson(line("a"), line("b")),
+                ServiceBundle.class, serviceService, auth);
+
+        assertThat(results).extracting(ItemResult::status).containsExactly(Status.FAILED, Status.ADDED);
+        assertThat(results.get(0).error()).isEqualTo("registry unavailable");
+    }
+
+    private static String line(String id) {
+        return "{\"service\": {\"id\": \"" + id + "\", \"name\": \"Service " + id + "\"}}";
+    }
+
+    private static InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -17,9 +17,11 @@
 package gr.uoa.di.madgik.resourcecatalogue.unit;
 
 import gr.uoa.di.madgik.resourcecatalogue.domain.LoggingInfo;
+import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
 import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
 import gr.uoa.di.madgik.resourcecatalogue.utils.Auditable;
+import gr.uoa.di.madgik.resourcecatalogue.utils.ObjectUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.core.Authentication;
@@ -28,7 +30,9 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static gr.uoa.di.madgik.resourcecatalogue.utils.TestUtils.createLoggingInfo;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -264,6 +268,47 @@ class BundleUnitTest {
         assertThat(bundle.getAuditState()).isEqualTo(Auditable.INVALID_AND_UPDATED);
     }
 
+    // --- copy ---
+
+    @Test
+    void clone_copiesPayloadStructurally() {
+        LinkedHashMap<String, Object> contact = new LinkedHashMap<>();
+        contact.put("email", "contact@example.org");
+        List<Object> contacts = new ArrayList<>(List.of(contact));
+        bundle.getPayload().put("id", "service-1");
+        bundle.getPayload().put("contacts", contacts);
+        bundle.getPayload().put("public", true);
+        bundle.getLoggingInfo().add(createLoggingInfo(LoggingInfo.Types.UPDATE.getKey(), LoggingInfo.ActionType.UPDATED.getKey()));
+
+        ServiceBundle copy = ObjectUtils.clone(bundle);
+        contact.put("email", "changed@example.org");
+        contacts.add("extra");
+        bundle.getLoggingInfo().getFirst().setType(LoggingInfo.Types.AUDIT.getKey());
+
+        assertThat(copy).isNotSameAs(bundle).isExactlyInstanceOf(ServiceBundle.class);
+        assertThat(copy.getId()).isEqualTo("service-1");
+        assertThat(copy.getPayload()).containsEntry("public", true);
+        assertThat((List<?>) copy.getPayload().get("contacts")).hasSize(1);
+        assertThat((Map<?, ?>) ((List<?>) copy.getPayload().get("contacts")).getFirst())
+                .containsEntry("email", "contact@example.org");
+        assertThat(copy.getLoggingInfo()).singleElement()
+                .extracting(LoggingInfo::getType).isEqualTo(LoggingInfo.Types.UPDATE.getKey());
+    }
+
+    @Test
+    void clone_copiesSubclassFields() {
+        OrganisationBundle organisation = new OrganisationBundle();
+        organisation.setId("organisation-1");
+        organisation.setTemplateStatus("approved template");
+        organisation.setActive(true);
+
+        OrganisationBundle copy = ObjectUtils.clone(organisation);
+
+        assertThat(copy.getId()).isEqualTo("organisation-1");
+        assertThat(copy.getTemplateStatus()).isEqualTo("approved template");
+        assertThat(copy.isActive()).isTrue();
+    }
+
     private static Authentication buildTestAuth() {
         Jwt jwt = Jwt.withTokenValue("test-token")
                 .header("alg", "none")
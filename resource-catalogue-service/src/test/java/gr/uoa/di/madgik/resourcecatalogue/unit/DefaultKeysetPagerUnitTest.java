@@ -0,0 +1,103 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.domain.Paging;
+import gr.uoa.di.madgik.registry.exception.ResourceException;
+import gr.uoa.di.madgik.registry.service.GenericResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.manager.DefaultKeysetPager;
+import gr.uoa.di.madgik.resourcecatalogue.service.KeysetPager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DefaultKeysetPagerUnitTest {
+
+    @Mock
+    private GenericResourceService genericResourceService;
+
+    // --- page ---
+
+    @Test
+    void page_followsTheCursorOfThePreviousPage() {
+        DefaultKeysetPager pager = new DefaultKeysetPager(genericResourceService);
+        doReturn(bundles(5, "a", "b")).when(genericResourceService).getResults(any(FacetFilter.class));
+        KeysetPager.Page<String> first = pager.page(filter(2), null);
+
+        doReturn(bundles(5, "c", "d")).when(genericResourceService).getResults(any(FacetFilter.class));
+        pager.page(filter(2), first.next());
+
+        ArgumentCaptor<FacetFilter> filters = ArgumentCaptor.forClass(FacetFilter.class);
+        verify(genericResourceService, times(2)).getResults(filters.capture());
+        assertThat(first.results()).containsExactly("a", "b");
+        assertThat(filters.getAllValues()).extracting(FacetFilter::getFrom).containsExactly(0, 2);
+    }
+
+    @Test
+    void page_lastPage_hasNoNextCursor() {
+        DefaultKeysetPager pager = new DefaultKeysetPager(genericResourceService);
+        doReturn(bundles(3, "c")).when(genericResourceService).getResults(any(FacetFilter.class));
+
+        KeysetPager.Page<String> page = pager.page(filter(2), KeysetPager.encodeCursor("2"));
+
+        assertThat(page.results()).containsExactly("c");
+        assertThat(page.next()).isNull();
+    }
+
+    @Test
+    void page_invalidCursor_isRejected() {
+        DefaultKeysetPager pager = new DefaultKeysetPager(genericResourceService);
+
+        assertThatThrownBy(() -> pager.page(filter(2), KeysetPager.encodeCursor("abc")))
+                .isInstanceOf(ResourceException.class);
+        assertThatThrownBy(() -> pager.page(filter(2), "not base64!"))
+                .isInstanceOf(ResourceException.class);
+    }
+
+    private static FacetFilter filter(int quantity) {
+        FacetFilter ff = new FacetFilter();
+        ff.setResourceType("service");
+        ff.setQuantity(quantity);
+        return ff;
+    }
+
+    private static Paging<Bundle> bundles(int total, String... ids) {
+        List<Bundle> results = new ArrayList<>();
+        for (String id : ids) {
+            Bundle bundle = new Bundle();
+            bundle.setId(id);
+            results.add(bundle);
+        }
+        return new Paging<>(total, 0, results.size(), results, List.of());
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.registry.exception.ResourceNotFoundException;
+import gr.uoa.di.madgik.registry.service.GenericResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
+import gr.uoa.di.madgik.resourcecatalogue.events.OnboardingCompletedEvent;
+import gr.uoa.di.madgik.resourcecatalogue.onboarding.flowable.OnboardingCompletionListener;
+import gr.uoa.di.madgik.resourcecatalogue.onboarding.flowable.WorkflowVariableMapper;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.delegate.DelegateExecution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static gr.uoa.di.madgik.resourcecatalogue.utils.TestUtils.createServiceBundle;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OnboardingCompletionListenerUnitTest {
+
+    @Mock
+    private GenericResourceService genericResourceService;
+    @Mock
+    private RuntimeService runtimeService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private FlowableEngineEntityEvent event;
+    @Mock
+    private DelegateExecution execution;
+
+    private final WorkflowVariableMapper helper = new WorkflowVariableMapper(JsonMapper.builder().build());
+    private OnboardingCompletionListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new OnboardingCompletionListener(helper, genericResourceService, runtimeService, eventPublisher);
+    }
+
+    // --- process completed ---
+
+    @Test
+    void processCompleted_onSuccess_publishesOnboardedResource() {
+        ServiceBundle bundle = createServiceBundle();
+        bundle.setStatus("approved");
+        completeProcess(createVariables(bundle));
+
+        ArgumentCaptor<OnboardingCompletedEvent> published = ArgumentCaptor.forClass(OnboardingCompletedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        assertThat(published.getValue().getResourceType()).isEqualTo("service");
+        assertThat(published.getValue().getResource()).isInstanceOf(ServiceBundle.class);
+        assertThat(published.getValue().getResource().getId()).isEqualTo("test-service");
+        assertThat(published.getValue().getResource().getStatus()).isEqualTo("approved");
+        verify(genericResourceService, never()).delete(anyString(), anyString());
+    }
+
+    @Test
+    void processCompleted_onSuccess_whenPublishingFails_stillCompletes() {
+        doThrow(new IllegalStateException("public copy failed")).when(eventPublisher).publishEvent(any(ApplicationEvent.class));
+
+        completeProcess(createVariables(createServiceBundle()));
+
+        verify(genericResourceService, never()).delete(anyString(), anyString());
+    }
+
+    @Test
+    void processCompleted_onFailure_deletesResource() {
+        Map<String, Object> vars = createVariables(createServiceBundle());
+        vars.put("workflowResult", Map.of("status", "FAILURE", "code", 409, "message", "Rejected"));
+
+        completeProcess(vars);
+
+        verify(genericResourceService).delete("service", "test-service");
+        verify(eventPublisher, never()).publishEvent(any(ApplicationEvent.class));
+    }
+
+    @Test
+    void processCompleted_onFailure_whenResourceAlreadyDeleted_stillCompletes() {
+        Map<String, Object> vars = createVariables(createServiceBundle());
+        vars.put("workflowResult", Map.of("status", "FAILURE", "code", 409, "message", "Rejected"));
+        doThrow(new ResourceNotFoundException("test-service", "service"))
+                .when(genericResourceService).delete("service", "test-service");
+
+        completeProcess(vars);
+
+        verify(genericResourceService).delete("service", "test-service");
+    }
+
+    @Test
+    void processCompleted_whenNotAsync_isIgnored() {
+        when(event.getType()).thenReturn(FlowableEngineEventType.PROCESS_COMPLETED);
+        when(event.getEntity()).thenReturn(execution);
+
+        listener.onEvent(event);
+
+        verifyNoInteractions(genericResourceService, eventPublisher);
+    }
+
+    // --- job moved to dead letter ---
+
+    @Test
+    void jobMovedToDeadLetter_whenAsync_deletesResource() {
+        Map<String, Object> vars = createVariables(createServiceBundle());
+        when(event.getType()).thenReturn(FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER);
+        when(event.getProcessInstanceId()).thenReturn("process-1");
+        when(runtimeService.getVariable("process-1", "asyncOnboarding")).thenReturn(true);
+        when(runtimeService.getVariables("process-1")).thenReturn(vars);
+
+        listener.onEvent(event);
+
+        verify(genericResourceService).delete("service", "test-service");
+    }
+
+    @Test
+    void jobMovedToDeadLetter_whenNotAsync_isIgnored() {
+        when(event.getType()).thenReturn(FlowableEngineEventType.JOB_MOVED_TO_DEADLETTER);
+        when(event.getProcessInstanceId()).thenReturn("process-1");
+
+        listener.onEvent(event);
+
+        verifyNoInteractions(genericResourceService);
+    }
+
+    private Map<String, Object> createVariables(ServiceBundle bundle) {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("resourceType", "service");
+        vars.put("asyncOnboarding", true);
+        helper.putResourceBundle(vars, bundle);
+        return vars;
+    }
+
+    private void completeProcess(Map<String, Object> vars) {
+        when(event.getType()).thenReturn(FlowableEngineEventType.PROCESS_COMPLETED);
+        when(event.getEntity()).thenReturn(execution);
+        when(execution.getVariable("asyncOnboarding")).thenReturn(vars.get("asyncOnboarding"));
+        when(execution.getVariables()).thenReturn(vars);
+
+        listener.onEvent(event);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.catalogue.exception.ValidationException;
+import gr.uoa.di.madgik.registry.domain.FacetFilter;
+import gr.uoa.di.madgik.registry.domain.Paging;
+import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
+import gr.uoa.di.madgik.resourcecatalogue.events.ResourceChangeEvent;
+import gr.uoa.di.madgik.resourcecatalogue.service.InteroperabilityRecordService;
+import gr.uoa.di.madgik.resourcecatalogue.service.OrganisationService;
+import gr.uoa.di.madgik.resourcecatalogue.service.ServiceService;
+import gr.uoa.di.madgik.resourcecatalogue.service.TrainingResourceService;
+import gr.uoa.di.madgik.resourcecatalogue.utils.RelationshipValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RelationshipValidatorUnitTest {
+
+    @Mock
+    private OrganisationService organisationService;
+    @Mock
+    private ServiceService serviceService;
+    @Mock
+    private TrainingResourceService trainingResourceService;
+    @Mock
+    private InteroperabilityRecordService interoperabilityRecordService;
+
+    // --- checkRelatedResourceIDsConsistency ---
+
+    @Test
+    void check_allProvidersExist_usesOneSearch() {
+        when(organisationService.getAll(any(FacetFilter.class))).thenReturn(organisations("p1", "p2"));
+
+        assertThatCode(() -> validator(Duration.ZERO).checkRelatedResourceIDsConsistency(service("p1", "p2", "p1")))
+                .doesNotThrowAnyException();
+        verify(organisationService, times(1)).getAll(any(FacetFilter.class));
+    }
+
+    @Test
+    void check_missingProvider_throwsValidationException() {
+        when(organisationService.getAll(any(FacetFilter.class))).thenReturn(organisations("p1"));
+
+        assertThatThrownBy(() -> validator(Duration.ZERO).checkRelatedResourceIDsConsistency(service("p1", "p2")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("'p2'")
+                .hasMessageContaining("eosc");
+    }
+
+    @Test
+    void check_noProviders_doesNotSearch() {
+        validator(Duration.ZERO).checkRelatedResourceIDsConsistency(service());
+
+        verifyNoInteractions(organisationService);
+    }
+
+    @Test
+    void check_withCache_skipsKnownProviders() {
+        when(organisationService.getAll(any(FacetFilter.class))).thenReturn(organisations("p1"));
+        RelationshipValidator validator = validator(Duration.ofMinutes(1));
+
+        validator.checkRelatedResourceIDsConsistency(service("p1"));
+        validator.checkRelatedResourceIDsConsistency(service("p1"));
+
+        verify(organisationService, times(1)).getAll(any(FacetFilter.class));
+    }
+
+    @Test
+    void check_withCache_forgetsDeletedProviders() {
+        when(organisationService.getAll(any(FacetFilter.class))).thenReturn(organisations("p1"));
+        RelationshipValidator validator = validator(Duration.ofMinutes(1));
+
+        validator.checkRelatedResourceIDsConsistency(service("p1"));
+        validator.onResourceChange(new ResourceChangeEvent(this, "organisation",
+                ResourceChangeEvent.Action.DELETE, "p1", null));
+        validator.checkRelatedResourceIDsConsistency(service("p1"));
+
+        verify(organisationService, times(2)).getAll(any(FacetFilter.class));
+    }
+
+    private RelationshipValidator validator(Duration existenceCacheTtl) {
+        return new RelationshipValidator(organisationService, serviceService, trainingResourceService,
+                interoperabilityRecordService, existenceCacheTtl);
+    }
+
+    private static ServiceBundle service(String... providers) {
+        ServiceBundle bundle = new ServiceBundle();
+        LinkedHashMap<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", "s1");
+        payload.put("serviceProviders", new ArrayList<>(List.of(providers)));
+        bundle.setService(payload);
+        bundle.setCatalogueId("eosc");
+        return bundle;
+    }
+
+    private static Paging<OrganisationBundle> organisations(String... ids) {
+        List<OrganisationBundle> results = new ArrayList<>();
+        for (String id : ids) {
+            OrganisationBundle bundle = new OrganisationBundle();
+            bundle.setId(id);
+            results.add(bundle);
+        }
+        return new Paging<>(results.size(), 0, results.size(), results, List.of());
+    }
+}
@@ -20,6 +20,7 @@ import gr.uoa.di.madgik.catalogue.exception.ValidationException;
 import gr.uoa.di.madgik.registry.exception.ResourceException;
 import gr.uoa.di.madgik.registry.service.GenericResourceService;
 import gr.uoa.di.madgik.registry.service.SearchService;
+import gr.uoa.di.madgik.resourcecatalogue.config.NodeProperties;
 import gr.uoa.di.madgik.resourcecatalogue.domain.Metadata;
 import gr.uoa.di.madgik.resourcecatalogue.domain.OrganisationBundle;
 import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
@@ -39,6 +40,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static gr.uoa.di.madgik.resourcecatalogue.utils.TestUtils.createJwtAuth;
 import static gr.uoa.di.madgik.resourcecatalogue.utils.TestUtils.createServiceBundle;
@@ -79,6 +81,27 @@ class ServiceManagerUnitTest {
 
     private final Authentication auth = createJwtAuth();
 
+    // --- add ---
+
+    @Test
+    void add_whenOnboardingIsAsync_storesPendingResourceAndStartsOnboarding() {
+        ServiceBundle bundle = createServiceBundle();
+        ReflectionTestUtils.setField(serviceManager, "nodeProperties",
+                new NodeProperties().setPid(new NodeProperties.Pid().setValue("21.T15999/node")));
+        when(idCreator.generate("service")).thenReturn("21.T15999/abc");
+        when(genericResourceService.add(eq("service"), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(genericResourceService.update(eq("service"), any())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(workflowService.isAsync()).thenReturn(true);
+
+        ServiceBundle result = serviceManager.add(bundle, auth);
+
+        assertThat(result.getStatus()).isEqualTo("pending");
+        assertThat(result.isActive()).isFalse();
+        verify(genericResourceService).update("service", result);
+        verify(workflowService).startOnboarding("service", result, auth);
+        verify(workflowService, never()).onboard(anyString(), any(), any());
+    }
+
     // --- update ---
 
     @Test
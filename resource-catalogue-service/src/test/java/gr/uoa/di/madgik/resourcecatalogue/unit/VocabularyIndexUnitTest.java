@@ -0,0 +1,166 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Vocabulary;
+import gr.uoa.di.madgik.resourcecatalogue.manager.VocabularyIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VocabularyIndexUnitTest {
+
+    // --- of ---
+
+    @Test
+    void of_indexesById() {
+        VocabularyIndex index = VocabularyIndex.of(List.of(vocabulary("country-gr", "Greece", "Country", null)));
+
+        assertThat(index.get("country-gr").getName()).isEqualTo("Greece");
+        assertThat(index.get("unknown")).isNull();
+        assertThat(index.get(null)).isNull();
+    }
+
+    @Test
+    void of_groupsByTypeSortedByName() {
+        VocabularyIndex index = VocabularyIndex.of(List.of(
+                vocabulary("country-gr", "Greece", "Country", null),
+                vocabulary("country-at", "Austria", "Country", null),
+                vocabulary("language-el", "Greek", "Language", null)));
+
+        assertThat(index.getByType("Country")).extracting(Vocabulary::getId)
+                .containsExactly("country-at", "country-gr");
+        assertThat(index.getByType("Language")).extracting(Vocabulary::getId).containsExactly("language-el");
+        assertThat(index.getByType("Region")).isEmpty();
+    }
+
+    @Test
+    void of_groupsChildrenByParentSortedByName() {
+        VocabularyIndex index = VocabularyIndex.of(List.of(
+                vocabulary("category-a", "A", "Category", null),
+                vocabulary("category-a-z", "Zeta", "Subcategory", "category-a"),
+                vocabulary("category-a-b", "Beta", "Subcategory", "category-a")));
+
+        assertThat(index.getChildren("category-a")).extracting(Vocabulary::getId)
+                .containsExactly("category-a-b", "category-a-z");
+        assertThat(index.getChildren("category-a-b")).isEmpty();
+    }
+
+    // --- Holder ---
+
+    @Test
+    void holder_loadsOnceUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        VocabularyIndex.Holder holder = new VocabularyIndex.Holder(() -> {
+            loads.incrementAndGet();
+            return List.of(vocabulary("country-gr", "Greece", "Country", null));
+        });
+
+        holder.get();
+        holder.get();
+        assertThat(loads).hasValue(1);
+
+        holder.invalidate();
+        holder.get();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void holder_doesNotKeepIndexLoadedDuringInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        VocabularyIndex.Holder[] holder = new VocabularyIndex.Holder[1];
+        holder[0] = new VocabularyIndex.Holder(() -> {
+            if (loads.incrementAndGet() == 1) {
+                holder[0].invalidate();
+            }
+            return List.of();
+        });
+
+        holder[0].get();
+        holder[0].get();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void holder_concurrentReadersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        VocabularyIndex.Holder holder = new VocabularyIndex.Holder(() -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(vocabulary("country-gr", "Greece", "Country", null));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<VocabularyIndex>> readers = new ArrayList<>();
+            readers.add(executor.submit(holder::get));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                readers.add(executor.submit(holder::get));
+            }
+            release.countDown();
+
+            for (Future<VocabularyIndex> reader : readers) {
+                assertThat(reader.get().get("country-gr")).isNotNull();
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void holder_failedLoadIsRetriedByNextReader() {
+        AtomicInteger loads = new AtomicInteger();
+        VocabularyIndex.Holder holder = new VocabularyIndex.Holder(() -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("registry unavailable");
+            }
+            return List.of();
+        });
+
+        assertThatThrownBy(holder::get).isInstanceOf(IllegalStateException.class);
+        holder.get();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private static Vocabulary vocabulary(String id, String name, String type, String parentId) {
+        Vocabulary vocabulary = new Vocabulary();
+        vocabulary.setId(id);
+        vocabulary.setName(name);
+        vocabulary.setType(type);
+        vocabulary.setParentId(parentId);
+        return vocabulary;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2026 OpenAIRE AMKE & Athena Research and Innovation Center
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package gr.uoa.di.madgik.resourcecatalogue.unit;
+
+import gr.uoa.di.madgik.resourcecatalogue.domain.Bundle;
+import gr.uoa.di.madgik.resourcecatalogue.domain.ServiceBundle;
+import gr.uoa.di.madgik.resourcecatalogue.dto.UserInfo;
+import gr.uoa.di.madgik.resourcecatalogue.onboarding.flowable.WorkflowVariableMapper;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static gr.uoa.di.madgik.resourcecatalogue.utils.TestUtils.createServiceBundle;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WorkflowVariableMapperUnitTest {
+
+    private final WorkflowVariableMapper mapper = new WorkflowVariableMapper(JsonMapper.builder().build());
+
+    // --- resource bundle ---
+
+    @Test
+    void putAndGetResourceBundle_roundTripsBundle() {
+        ServiceBundle bundle = createServiceBundle();
+        bundle.setStatus("pending");
+        bundle.setCatalogueId("eosc");
+        Map<String, Object> vars = new HashMap<>();
+
+        mapper.putResourceBundle(vars, bundle);
+        Bundle result = mapper.getResourceBundle(vars);
+
+        assertThat(result).isInstanceOf(ServiceBundle.class);
+        assertThat(result.getId()).isEqualTo("test-service");
+        assertThat(result.getStatus()).isEqualTo("pending");
+        assertThat(result.getCatalogueId()).isEqualTo("eosc");
+        assertThat(result.getPayload()).isEqualTo(bundle.getPayload());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void putResourceBundle_storesPayloadOnlyUnderPayloadKey() {
+        ServiceBundle bundle = createServiceBundle();
+        Map<String, Object> vars = new HashMap<>();
+
+        mapper.putResourceBundle(vars, bundle, "resource");
+
+        Map<String, Object> resource = (Map<String, Object>) vars.get("resource");
+        assertThat(resource.get("payload")).isSameAs(bundle.getPayload());
+        assertThat((Map<String, Object>) resource.get("service")).isEmpty();
+        assertThat(vars.get("resource_class")).isEqualTo(ServiceBundle.class.getName());
+        assertThat(bundle.getId()).isEqualTo("test-service");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getResourceBundle_readsFieldsChangedByTheProcess() {
+        Map<String, Object> vars = new HashMap<>();
+        mapper.putResourceBundle(vars, createServiceBundle());
+        Map<String, Object> resource = (Map<String, Object>) vars.get("resource");
+        resource.put("auditState", "Not audited");
+        ((Map<String, Object>) resource.get("payload")).put("name", "Renamed");
+
+        Bundle result = mapper.getResourceBundle(vars);
+
+        assertThat(result.getAuditState()).isEqualTo("Not audited");
+        assertThat(result.getPayload()).containsEntry("name", "Renamed");
+    }
+
+    @Test
+    void toMap_doesNotModifyBundle() {
+        ServiceBundle bundle = createServiceBundle();
+        Map<String, Object> payload = bundle.getPayload();
+        Map<String, Object> before = new HashMap<>(payload);
+
+        Map<String, Object> result = mapper.toMap(bundle);
+
+        assertThat(bundle.getPayload()).isSameAs(payload).isEqualTo(before);
+        assertThat(result).doesNotContainKey("id");
+        assertThat(result.get("payload")).isSameAs(payload);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void getResourceBundle_copiesNestedPayloadValues() {
+        ServiceBundle bundle = createServiceBundle();
+        bundle.getPayload().put("tags", new ArrayList<>(List.of("a")));
+        bundle.getPayload().put("contact", new LinkedHashMap<>(Map.of("email", "contact@example.org")));
+        Map<String, Object> vars = new HashMap<>();
+        mapper.putResourceBundle(vars, bundle);
+
+        Bundle result = mapper.getResourceBundle(vars);
+        ((List<Object>) result.getPayload().get("tags")).add("b");
+        ((Map<String, Object>) result.getPayload().get("contact")).put("email", "other@example.org");
+
+        assertThat(bundle.getPayload().get("tags")).isEqualTo(List.of("a"));
+        assertThat((Map<String, Object>) bundle.getPayload().get("contact"))
+                .containsEntry("email", "contact@example.org");
+    }
+
+    // --- user info ---
+
+    @Test
+    void putAndGetUserInfo_roundTripsUser() {
+        UserInfo user = new UserInfo("sub", "user@example.org", "Name", "Surname", List.of("ROLE_USER"));
+        Map<String, Object> vars = new HashMap<>();
+
+        mapper.putUserInfo(vars, user);
+
+        assertThat(mapper.getUserInfo(vars)).isEqualTo(user);
+    }
+}